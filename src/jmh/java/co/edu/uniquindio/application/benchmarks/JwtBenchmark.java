@@ -0,0 +1,55 @@
+package co.edu.uniquindio.application.benchmarks;
+
+import co.edu.uniquindio.application.model.Role;
+import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.security.JwtClaims;
+import co.edu.uniquindio.application.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// Emisión, verificación y extracción de claims del JWT (se ejecuta en cada petición autenticada)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtBenchmark {
+
+    private JwtTokenProvider provider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", "claveDeBenchmarkSuficientementeLargaParaHS256");
+        ReflectionTestUtils.setField(provider, "activeKeyId", "bench");
+        ReflectionTestUtils.setField(provider, "previousKeys", "");
+        ReflectionTestUtils.setField(provider, "jwtExpirationInMs", 3600000);
+        ReflectionTestUtils.invokeMethod(provider, "init");
+
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("bench@test.com");
+        user.setRole(Role.HOST);
+        authentication = new UsernamePasswordAuthenticationToken(user, null);
+        token = provider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return provider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public JwtClaims parse() {
+        return provider.parse(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token);
+    }
+}
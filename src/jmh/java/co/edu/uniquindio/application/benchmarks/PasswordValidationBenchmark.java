@@ -0,0 +1,29 @@
+package co.edu.uniquindio.application.benchmarks;
+
+import co.edu.uniquindio.application.services.impl.AuthServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Reglas de contraseña evaluadas en registro, cambio y recuperación
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordValidationBenchmark {
+
+    @Param({"Valida123", "sinmayusculas1", "Corta1"})
+    private String password;
+
+    private AuthServiceImpl authService;
+
+    @Setup
+    public void setUp() {
+        // validatePassword no usa colaboradores
+        authService = new AuthServiceImpl(null, null, null, null, null);
+    }
+
+    @Benchmark
+    public boolean validatePassword() {
+        return authService.validatePassword(password);
+    }
+}
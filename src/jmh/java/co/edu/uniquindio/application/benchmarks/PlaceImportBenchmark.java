@@ -0,0 +1,138 @@
+package co.edu.uniquindio.application.benchmarks;
+
+import co.edu.uniquindio.application.MainApplication;
+import co.edu.uniquindio.application.model.*;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.PlaceService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Importación de un catálogo de 1000 alojamientos (cada uno con 3 imágenes y 2 servicios): lote JDBC
+// desactivado (jdbcBatchSize=1) frente al valor de la aplicación, y guardado uno a uno con createPlace.
+// Por defecto corre contra H2 en memoria, que no tiene viaje de red por sentencia y casi no muestra diferencia.
+// La ganancia se mide contra MariaDB (base vacía, el esquema lo crea Hibernate):
+//   ./gradlew jmh -PjmhIncludes=PlaceImportBenchmark -PbenchJdbcUrl=jdbc:mariadb://127.0.0.1:3306/bench?useBulkStmts=true \
+//       -PbenchJdbcUsername=root -PbenchJdbcPassword=...
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PlaceImportBenchmark {
+
+    private static final int PLACES = 1000;
+
+    @Param({"1", "50"})
+    private int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private PlaceService placeService;
+    private JdbcTemplate jdbcTemplate;
+    private User host;
+    private List<Place> places;
+    private int run;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MainApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(datasourceArgs(
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+                        "--logging.level.root=WARN"));
+
+        placeService = context.getBean(PlaceService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        User user = new User();
+        user.setName("Benchmark");
+        user.setEmail("import-host@test.com");
+        user.setPassword("Benchmark123");
+        user.setRole(Role.HOST);
+        host = context.getBean(UserRepository.class).save(user);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void newCatalog() {
+        run++;
+        places = new ArrayList<>(PLACES);
+        for (int i = 0; i < PLACES; i++) {
+            places.add(place(run + "-" + i));
+        }
+    }
+
+    // Borra el catálogo importado para que cada invocación parta de las mismas tablas
+    @TearDown(Level.Invocation)
+    public void deleteCatalog() {
+        String ownPlaces = "(SELECT id FROM places WHERE host_id = ?)";
+        jdbcTemplate.update("DELETE FROM place_images WHERE place_id IN " + ownPlaces, host.getId());
+        jdbcTemplate.update("DELETE FROM place_services WHERE place_id IN " + ownPlaces, host.getId());
+        jdbcTemplate.update("DELETE FROM places WHERE host_id = ?", host.getId());
+    }
+
+    @Benchmark
+    public List<Place> importPlaces() {
+        return placeService.importPlaces(host, places);
+    }
+
+    @Benchmark
+    public int createPlacesOneByOne() {
+        for (Place place : places) {
+            place.setHost(host);
+            placeService.createPlace(place);
+        }
+        return places.size();
+    }
+
+    // MariaDB si se indicó bench.jdbc-url; si no, H2 en memoria
+    private static String[] datasourceArgs(String... common) {
+        String url = System.getProperty("bench.jdbc-url");
+        List<String> args = new ArrayList<>(List.of(common));
+        if (url == null || url.isBlank()) {
+            args.addAll(List.of(
+                    "--spring.datasource.url=jdbc:h2:mem:import-bench;DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"));
+        } else {
+            args.addAll(List.of(
+                    "--spring.datasource.url=" + url,
+                    "--spring.datasource.username=" + System.getProperty("bench.jdbc-username", "root"),
+                    "--spring.datasource.password=" + System.getProperty("bench.jdbc-password", "")));
+        }
+        return args.toArray(String[]::new);
+    }
+
+    private static Place place(String key) {
+        Location location = new Location();
+        location.setLatitude(4.5 + (key.hashCode() % 100) / 1000.0);
+        location.setLongitude(-75.7);
+
+        Address address = new Address();
+        address.setAddress("Calle " + key);
+        address.setCity("Armenia");
+        address.setLocation(location);
+
+        Place place = new Place();
+        place.setTitle("Alojamiento importado " + key);
+        place.setDescription("Alojamiento migrado desde otra plataforma");
+        place.setAddress(address);
+        place.setNightlyPrice(120000.0);
+        place.setMaxGuests(4);
+        place.setImages(new ArrayList<>(List.of("https://img/" + key + "/1.jpg",
+                "https://img/" + key + "/2.jpg", "https://img/" + key + "/3.jpg")));
+        place.setServices(new ArrayList<>(List.of(Service.WIFI, Service.PARKING)));
+        return place;
+    }
+}
@@ -0,0 +1,62 @@
+package co.edu.uniquindio.application.benchmarks;
+
+import co.edu.uniquindio.application.dto.PlaceResponse;
+import co.edu.uniquindio.application.mappers.PlaceMapper;
+import co.edu.uniquindio.application.mappers.PlaceMapperImpl;
+import co.edu.uniquindio.application.model.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Conversión de un listado de 1000 alojamientos a PlaceResponse (calificación desde los agregados)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlaceMapperBenchmark {
+
+    private static final int PLACES = 1000;
+
+    private final PlaceMapper placeMapper = new PlaceMapperImpl();
+    private List<Place> places;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        User host = new User();
+        host.setId(1L);
+        host.setName("Anfitrión");
+
+        places = new ArrayList<>(PLACES);
+        for (int i = 0; i < PLACES; i++) {
+            Place place = new Place();
+            place.setId((long) i);
+            place.setTitle("Alojamiento " + i);
+            place.setDescription("Descripción del alojamiento " + i);
+            place.setNightlyPrice(50.0 + random.nextInt(450));
+            place.setMaxGuests(1 + random.nextInt(8));
+            place.setHost(host);
+            place.setImages(List.of("https://img/" + i + "/1.jpg", "https://img/" + i + "/2.jpg"));
+            place.setServices(List.of(Service.values()[random.nextInt(Service.values().length)]));
+            int reviews = random.nextInt(50);
+            place.applyRatingDelta((long) reviews * (1 + random.nextInt(5)), reviews);
+
+            Address address = new Address();
+            address.setCity("Armenia");
+            address.setAddress("Calle " + i);
+            place.setAddress(address);
+            places.add(place);
+        }
+    }
+
+    @Benchmark
+    public List<PlaceResponse> toResponseList() {
+        List<PlaceResponse> responses = new ArrayList<>(places.size());
+        for (Place place : places) {
+            responses.add(placeMapper.toResponse(place));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,171 @@
+package co.edu.uniquindio.application.benchmarks;
+
+import co.edu.uniquindio.application.MainApplication;
+import co.edu.uniquindio.application.index.AvailabilityIndex;
+import co.edu.uniquindio.application.model.*;
+import co.edu.uniquindio.application.repositories.BookingRepository;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.BookingService;
+import co.edu.uniquindio.application.services.PlaceService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Búsqueda de disponibilidad y creación de reservas contra una base H2 embebida
+// con un conjunto de datos sintético reproducible (semilla fija)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchBenchmark {
+
+    private static final String[] CITIES = {"Armenia", "Pereira", "Manizales", "Salento", "Filandia",
+            "Medellín", "Bogotá", "Cali", "Cartagena", "Santa Marta"};
+
+    @Param({"2000"})
+    private int places;
+
+    @Param({"10000"})
+    private int bookings;
+
+    private ConfigurableApplicationContext context;
+    private PlaceRepository placeRepository;
+    private PlaceService placeService;
+    private BookingService bookingService;
+
+    private final List<SearchQuery> queries = new ArrayList<>();
+    private final AtomicInteger nextQuery = new AtomicInteger();
+    private final AtomicInteger nextBooking = new AtomicInteger();
+    private List<Long> placeIds;
+    private User guest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MainApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:bench;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+
+        placeRepository = context.getBean(PlaceRepository.class);
+        placeService = context.getBean(PlaceService.class);
+        bookingService = context.getBean(BookingService.class);
+        seed(new Random(42));
+        context.getBean(AvailabilityIndex.class).rebuild();
+
+        Random random = new Random(7);
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withNano(0);
+        for (int i = 0; i < 256; i++) {
+            LocalDateTime checkIn = base.plusDays(random.nextInt(180));
+            queries.add(new SearchQuery(CITIES[random.nextInt(CITIES.length)], checkIn,
+                    checkIn.plusDays(1 + random.nextInt(7)), 1 + random.nextInt(4)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // Consulta completa en base de datos (NOT IN sobre bookings)
+    @Benchmark
+    public List<Place> findAvailablePlaces() {
+        SearchQuery q = nextQuery();
+        return placeRepository.findAvailablePlaces(q.city(), q.checkIn(), q.checkOut(), q.guests(),
+                0.0, Double.MAX_VALUE, null, 0L, 0L, Status.ACTIVE);
+    }
+
+    // Camino del servicio: candidatos por atributos + índice de disponibilidad en memoria
+    @Benchmark
+    public List<Place> getAvailablePlaces() {
+        SearchQuery q = nextQuery();
+        return placeService.getAvailablePlaces(q.city(), q.checkIn(), q.checkOut(), q.guests(), null, null, null, null, null);
+    }
+
+    // Reserva con bloqueo del alojamiento; fechas lejanas y crecientes para no generar conflictos
+    @Benchmark
+    public Booking createBooking() {
+        int n = nextBooking.getAndIncrement();
+        LocalDateTime checkIn = LocalDateTime.now().plusYears(1).plusDays(n / placeIds.size() * 2L);
+
+        Place place = new Place();
+        place.setId(placeIds.get(n % placeIds.size()));
+        Booking booking = new Booking();
+        booking.setPlace(place);
+        booking.setGuest(guest);
+        booking.setCheckIn(checkIn);
+        booking.setCheckOut(checkIn.plusDays(1));
+        booking.setGuestCount(1);
+        return bookingService.createBooking(booking);
+    }
+
+    private SearchQuery nextQuery() {
+        return queries.get(Math.floorMod(nextQuery.getAndIncrement(), queries.size()));
+    }
+
+    private void seed(Random random) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        BookingRepository bookingRepository = context.getBean(BookingRepository.class);
+
+        User host = userRepository.save(user("bench-host@test.com", Role.HOST));
+        guest = userRepository.save(user("bench-guest@test.com", Role.GUEST));
+
+        List<Place> newPlaces = new ArrayList<>(places);
+        for (int i = 0; i < places; i++) {
+            Place place = new Place();
+            place.setTitle("Alojamiento " + i);
+            place.setNightlyPrice(50.0 + random.nextInt(450));
+            place.setMaxGuests(1 + random.nextInt(8));
+            place.setHost(host);
+
+            Address address = new Address();
+            address.setCity(CITIES[random.nextInt(CITIES.length)]);
+            address.setAddress("Calle " + i);
+            place.setAddress(address);
+            newPlaces.add(place);
+        }
+        List<Place> saved = placeRepository.saveAll(newPlaces);
+        placeIds = saved.stream().map(Place::getId).toList();
+
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withNano(0);
+        List<Booking> newBookings = new ArrayList<>(bookings);
+        for (int i = 0; i < bookings; i++) {
+            LocalDateTime checkIn = base.plusDays(random.nextInt(180));
+            Booking booking = new Booking();
+            booking.setPlace(saved.get(random.nextInt(saved.size())));
+            booking.setGuest(guest);
+            booking.setCheckIn(checkIn);
+            booking.setCheckOut(checkIn.plusDays(1 + random.nextInt(7)));
+            booking.setGuestCount(1);
+            booking.setPrice(100.0);
+            booking.setStatus(random.nextBoolean() ? BookingStatus.CONFIRMED : BookingStatus.PENDING);
+            newBookings.add(booking);
+        }
+        bookingRepository.saveAll(newBookings);
+    }
+
+    private static User user(String email, Role role) {
+        User user = new User();
+        user.setName("Benchmark");
+        user.setEmail(email);
+        user.setPassword("Benchmark123");
+        user.setRole(role);
+        return user;
+    }
+
+    private record SearchQuery(String city, LocalDateTime checkIn, LocalDateTime checkOut, int guests) {
+    }
+}
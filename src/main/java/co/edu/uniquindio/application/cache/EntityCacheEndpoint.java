@@ -0,0 +1,106 @@
+package co.edu.uniquindio.application.cache;
+
+import co.edu.uniquindio.application.model.HostProfile;
+import co.edu.uniquindio.application.model.Place;
+import co.edu.uniquindio.application.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// /actuator/entitycache: estadísticas de la caché de segundo nivel y de la caché de consultas, e invalidación
+// manual por entidad (p. ej. tras modificar la base fuera de la aplicación).
+//  GET    /actuator/entitycache                -> aciertos, fallos y escrituras por región
+//  DELETE /actuator/entitycache/{entity}?id=N  -> una entrada (place, user, hostProfile); sin id, toda la región
+//  DELETE /actuator/entitycache                -> todas las regiones y la caché de consultas
+@Component
+@Endpoint(id = "entitycache")
+@RequiredArgsConstructor
+public class EntityCacheEndpoint {
+
+    private static final Map<String, Class<?>> ENTITIES = Map.of(
+            "place", Place.class,
+            "user", User.class,
+            "hostProfile", HostProfile.class);
+
+    private static final List<String> REGIONS = List.of(Place.CACHE_REGION, Place.IMAGES_CACHE_REGION,
+            Place.SERVICES_CACHE_REGION, User.CACHE_REGION, HostProfile.CACHE_REGION);
+
+    private static final String PLACE_IMAGES_ROLE = Place.class.getName() + ".images";
+    private static final String PLACE_SERVICES_ROLE = Place.class.getName() + ".services";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        Statistics statistics = sessionFactory().getStatistics();
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String region : REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            regions.put(region, counters(regionStatistics.getHitCount(), regionStatistics.getMissCount(),
+                    regionStatistics.getPutCount()));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        result.put("regions", regions);
+        result.put("queryCache", counters(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount()));
+        return result;
+    }
+
+    @DeleteOperation
+    public void evict(@Selector String entity, @Nullable Long id) {
+        Class<?> type = ENTITIES.get(entity);
+        if (type == null) {
+            throw new InvalidEndpointRequestException("Entidad desconocida: " + entity,
+                    "Entidad desconocida, use una de " + ENTITIES.keySet());
+        }
+
+        org.hibernate.Cache cache = sessionFactory().getCache();
+        if (id == null) {
+            cache.evictEntityData(type);
+            if (type == Place.class) {
+                cache.evictCollectionData(PLACE_IMAGES_ROLE);
+                cache.evictCollectionData(PLACE_SERVICES_ROLE);
+            }
+        } else {
+            cache.evictEntityData(type, id);
+            if (type == Place.class) {
+                cache.evictCollectionData(PLACE_IMAGES_ROLE, id);
+                cache.evictCollectionData(PLACE_SERVICES_ROLE, id);
+            }
+        }
+    }
+
+    @DeleteOperation
+    public void evictAll() {
+        org.hibernate.Cache cache = sessionFactory().getCache();
+        cache.evictAllRegions();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    private static Map<String, Long> counters(long hits, long misses, long puts) {
+        Map<String, Long> counters = new LinkedHashMap<>();
+        counters.put("hits", hits);
+        counters.put("misses", misses);
+        counters.put("puts", puts);
+        return counters;
+    }
+}
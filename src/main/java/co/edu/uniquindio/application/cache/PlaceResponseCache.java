@@ -0,0 +1,79 @@
+package co.edu.uniquindio.application.cache;
+
+import co.edu.uniquindio.application.dto.PlaceResponse;
+import co.edu.uniquindio.application.transaction.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// Caché de lectura del detalle de alojamiento (GET /api/places/{id}): PlaceResponse ya ensamblado,
+// con imágenes, servicios, anfitrión y calificación. Acotada por tamaño y TTL; las métricas de
+// aciertos y fallos se publican como cache.* con la etiqueta cache=placeResponses.
+// Cada entrada guarda también el ETag de la versión cargada (ver PlaceETag), para responder 304
+// a If-None-Match sin consultar la base de datos.
+// Los servicios que modifican cualquiera de esos datos deben llamar a evict/evictByHost.
+@Component
+public class PlaceResponseCache {
+
+    public record Entry(PlaceResponse response, String eTag) {
+    }
+
+    private final Cache<Long, Entry> responses;
+
+    public PlaceResponseCache(
+            @Value("${app.cache.place-responses.ttl:10m}") Duration ttl,
+            @Value("${app.cache.place-responses.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "placeResponses");
+    }
+
+    // El cargador puede retornar null (alojamiento inexistente): ese resultado no se guarda
+    public Entry get(Long placeId, Function<Long, Entry> loader) {
+        return responses.get(placeId, loader);
+    }
+
+    // Sin cargar: null si el alojamiento no está en caché
+    public Entry getIfPresent(Long placeId) {
+        return responses.getIfPresent(placeId);
+    }
+
+    // Se invalida de inmediato y otra vez tras el commit, para que una lectura concurrente
+    // no deje en caché el estado anterior
+    public void evict(Long placeId) {
+        if (placeId == null) {
+            return;
+        }
+        responses.invalidate(placeId);
+        AfterCommit.run(() -> responses.invalidate(placeId));
+    }
+
+    // Cambios en los datos del anfitrión incluidos en la respuesta
+    public void evictByHost(Long hostId) {
+        if (hostId == null) {
+            return;
+        }
+        evictHostNow(hostId);
+        AfterCommit.run(() -> evictHostNow(hostId));
+    }
+
+    public void evictAll() {
+        responses.invalidateAll();
+        AfterCommit.run(responses::invalidateAll);
+    }
+
+    private void evictHostNow(Long hostId) {
+        responses.asMap().values().removeIf(entry -> entry.response().getHost() != null
+                && hostId.equals(entry.response().getHost().getId()));
+    }
+}
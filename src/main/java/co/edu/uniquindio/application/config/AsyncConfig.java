@@ -0,0 +1,10 @@
+package co.edu.uniquindio.application.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// Métodos @Async sobre el ejecutor de la aplicación (hilos virtuales, ver spring.threads.virtual.enabled)
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
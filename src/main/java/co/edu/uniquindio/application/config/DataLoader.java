@@ -3,7 +3,10 @@ package co.edu.uniquindio.application.config;
 import co.edu.uniquindio.application.model.*;
 import co.edu.uniquindio.application.repositories.*;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -12,10 +15,14 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
+// Datos mínimos de demostración; con el perfil "synthetic" se usa SyntheticDataLoader en su lugar
 @Component
+@Profile("!synthetic")
 @RequiredArgsConstructor
 public class DataLoader implements CommandLineRunner {
 
+    private static final Logger logger = LoggerFactory.getLogger(DataLoader.class);
+
     private final UserRepository userRepository;
     private final PlaceRepository placeRepository;
     private final BookingRepository bookingRepository;
@@ -30,7 +37,7 @@ public class DataLoader implements CommandLineRunner {
     }
 
     private void loadTestData() {
-        System.out.println("Cargando datos de prueba...");
+        logger.info("Cargando datos de prueba...");
 
         // --------------------------
         //        USUARIOS
@@ -107,28 +114,33 @@ public class DataLoader implements CommandLineRunner {
                 List.of(Service.POOL, Service.PARKING)
         );
 
+        // Un solo saveAll por entidad: con secuencias por bloques los INSERT van en lotes JDBC
+        placeRepository.saveAll(List.of(place1, place2, place3, place4, place5, place6));
+
         // --------------------------
         //      RESERVAS
         // --------------------------
-        createBooking(guest1, place1,
+        Booking booking1 = createBooking(guest1, place1,
                 LocalDateTime.now().plusDays(5),
                 LocalDateTime.now().plusDays(7),
                 4, 300000.0,
                 BookingStatus.CONFIRMED);
 
-        createBooking(guest2, place2,
+        Booking booking2 = createBooking(guest2, place2,
                 LocalDateTime.now().plusDays(10),
                 LocalDateTime.now().plusDays(13),
                 2, 400000.0,
                 BookingStatus.PENDING);
 
-        createBooking(guest3, place3,
+        Booking booking3 = createBooking(guest3, place3,
                 LocalDateTime.now().plusDays(15),
                 LocalDateTime.now().plusDays(18),
                 3, 540000.0,
                 BookingStatus.CONFIRMED);
 
-        System.out.println("Datos de prueba cargados exitosamente!");
+        bookingRepository.saveAll(List.of(booking1, booking2, booking3));
+
+        logger.info("Datos de prueba cargados exitosamente");
     }
 
     private User createUser(String name, String email, String password, Role role, Boolean isHost) {
@@ -170,7 +182,7 @@ public class DataLoader implements CommandLineRunner {
         place.setStatus(Status.ACTIVE);
         place.setCreatedAt(LocalDateTime.now());
 
-        return placeRepository.save(place);
+        return place;
     }
 
     private Booking createBooking(User guest, Place place, LocalDateTime checkIn, LocalDateTime checkOut,
@@ -185,6 +197,6 @@ public class DataLoader implements CommandLineRunner {
         booking.setPrice(price);
         booking.setStatus(status);
         booking.setCreatedAt(LocalDateTime.now());
-        return bookingRepository.save(booking);
+        return booking;
     }
 }
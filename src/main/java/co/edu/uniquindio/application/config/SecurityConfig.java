@@ -52,6 +52,9 @@ public class SecurityConfig {
                         // Login / Register
                         .requestMatchers("/api/auth/**").permitAll()
 
+                        // Escrituras de anfitrión bajo rutas públicas (deben ir antes del permitAll)
+                        .requestMatchers(HttpMethod.POST, "/api/places/host/*/import").hasAnyRole("HOST", "ADMIN")
+
                         // Endpoints públicos
                         .requestMatchers("/api/places/**").permitAll()
 
@@ -66,6 +69,10 @@ public class SecurityConfig {
                         .requestMatchers("/api/reviews/host/**").hasAnyRole("HOST", "ADMIN")
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
+                        // Actuator
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // Cualquier otro
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,345 @@
+package co.edu.uniquindio.application.config;
+
+import co.edu.uniquindio.application.model.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Generador de datos sintéticos a gran escala: usuarios, alojamientos repartidos en ciudades reales,
+// reservas y reseñas. Todo sale de un único generador pseudoaleatorio con semilla, en un orden fijo,
+// así que la misma configuración (semilla + fecha base) produce siempre los mismos datos.
+// No guarda nada: entrega cada entidad al Sink y solo conserva en memoria los IDs de los usuarios.
+public class SyntheticDataGenerator {
+
+    // Destino de las entidades generadas (base de datos en SyntheticDataLoader, memoria en las pruebas)
+    public interface Sink {
+        // Guarda el usuario y retorna su ID
+        Long saveUser(User user);
+
+        // Referencia a un usuario ya guardado, para usarla en relaciones sin cargarlo
+        User userReference(Long id);
+
+        // Guarda el alojamiento junto con su historial de reservas y reseñas
+        void savePlace(Place place, List<Booking> bookings, List<Review> reviews);
+    }
+
+    public record Settings(long seed, int users, double hostRatio, int places,
+                           int historyDays, int futureDays, double reviewRate, LocalDate anchorDate) {
+    }
+
+    // Ciudades con coordenadas reales; el peso aproxima su participación en la oferta de alojamientos
+    private record City(String name, double latitude, double longitude, double radiusKm, int weight,
+                        double basePrice) {
+    }
+
+    private static final List<City> CITIES = List.of(
+            new City("Bogotá", 4.7110, -74.0721, 12, 180, 210000),
+            new City("Medellín", 6.2442, -75.5812, 9, 150, 190000),
+            new City("Cartagena", 10.3910, -75.4794, 6, 130, 320000),
+            new City("Cali", 3.4516, -76.5320, 8, 80, 160000),
+            new City("Santa Marta", 11.2408, -74.1990, 6, 75, 240000),
+            new City("Barranquilla", 10.9685, -74.7813, 7, 55, 170000),
+            new City("San Andrés", 12.5847, -81.7006, 4, 50, 350000),
+            new City("Bucaramanga", 7.1193, -73.1227, 6, 35, 140000),
+            new City("Pereira", 4.8133, -75.6961, 5, 30, 150000),
+            new City("Manizales", 5.0703, -75.5138, 5, 25, 140000),
+            new City("Armenia", 4.5339, -75.6811, 5, 25, 150000),
+            new City("Salento", 4.6372, -75.5703, 3, 20, 180000),
+            new City("Villa de Leyva", 5.6339, -73.5245, 3, 20, 230000),
+            new City("Guatapé", 6.2326, -75.1586, 3, 18, 200000),
+            new City("Filandia", 4.6747, -75.6583, 2, 10, 160000),
+            new City("Santa Fe de Antioquia", 6.5565, -75.8276, 3, 10, 190000),
+            new City("Villavicencio", 4.1420, -73.6266, 5, 12, 130000),
+            new City("Ibagué", 4.4389, -75.2322, 5, 10, 120000),
+            new City("Neiva", 2.9273, -75.2819, 5, 8, 120000),
+            new City("Popayán", 2.4448, -76.6147, 4, 10, 130000),
+            new City("Pasto", 1.2136, -77.2811, 4, 8, 120000),
+            new City("Tunja", 5.5353, -73.3678, 4, 6, 110000),
+            new City("Montería", 8.7479, -75.8814, 5, 6, 130000),
+            new City("Valledupar", 10.4631, -73.2532, 5, 6, 130000),
+            new City("Leticia", -4.2153, -69.9406, 3, 5, 200000),
+            new City("Capurganá", 8.6333, -77.3500, 2, 4, 260000),
+            new City("Palomino", 11.2450, -73.5636, 2, 5, 210000),
+            new City("Minca", 11.1424, -74.1166, 2, 5, 190000),
+            new City("Jardín", 5.5986, -75.8194, 2, 5, 170000),
+            new City("Barichara", 6.6346, -73.2233, 2, 6, 220000));
+
+    private static final String[] FIRST_NAMES = {"Juan", "María", "Carlos", "Laura", "Andrés", "Valentina",
+            "Santiago", "Camila", "Sebastián", "Daniela", "Alejandro", "Natalia", "Felipe", "Sofía", "Diego",
+            "Paula", "Mateo", "Isabella", "Nicolás", "Mariana", "Julián", "Catalina", "David", "Luisa"};
+    private static final String[] LAST_NAMES = {"Gómez", "Rodríguez", "López", "Martínez", "García", "Pérez",
+            "Hernández", "Sánchez", "Ramírez", "Torres", "Díaz", "Moreno", "Vargas", "Rojas", "Castro",
+            "Ortiz", "Restrepo", "Jaramillo", "Cárdenas", "Ospina", "Muñoz", "Giraldo", "Quintero", "Arango"};
+    private static final String[] KINDS = {"Apartamento", "Casa", "Cabaña", "Finca", "Estudio", "Loft",
+            "Habitación", "Glamping", "Penthouse", "Casa campestre"};
+    private static final String[] TRAITS = {"acogedor", "con vista", "cerca al centro", "con terraza",
+            "con piscina", "familiar", "moderno", "tradicional", "junto al parque", "tranquilo"};
+    private static final String[] COMMENTS_BY_RATING = {
+            "No cumplió con lo anunciado, el lugar estaba sucio.",
+            "Regular: la ubicación es buena pero faltó mantenimiento.",
+            "Estadía correcta, aunque hay detalles por mejorar.",
+            "Muy buena estadía, el anfitrión fue atento y el lugar cómodo.",
+            "¡Excelente! Todo impecable, volveríamos sin dudarlo."};
+    // Distribución de calificaciones (1 a 5) sesgada hacia las altas, como en las plataformas reales
+    private static final double[] RATING_WEIGHTS = {0.03, 0.05, 0.12, 0.35, 0.45};
+
+    private static final LocalTime CHECK_IN_TIME = LocalTime.of(15, 0);
+    private static final LocalTime CHECK_OUT_TIME = LocalTime.of(11, 0);
+    private static final double EARTH_KM_PER_DEGREE = 111.32;
+
+    private final Settings settings;
+    private final SplittableRandom random;
+    private final int[] cityCumulativeWeights;
+    private final LocalDateTime anchor;
+
+    private long[] hostIds;
+    private long[] guestIds;
+
+    public SyntheticDataGenerator(Settings settings) {
+        this.settings = settings;
+        this.random = new SplittableRandom(settings.seed());
+        this.anchor = settings.anchorDate().atTime(12, 0);
+        this.cityCumulativeWeights = new int[CITIES.size()];
+        int total = 0;
+        for (int i = 0; i < CITIES.size(); i++) {
+            total += CITIES.get(i).weight();
+            cityCumulativeWeights[i] = total;
+        }
+    }
+
+    public void generateUsers(Sink sink) {
+        int hosts = Math.max(1, (int) Math.round(settings.users() * settings.hostRatio()));
+        int guests = Math.max(1, settings.users() - hosts);
+        hostIds = new long[hosts];
+        guestIds = new long[guests];
+
+        for (int i = 0; i < hosts; i++) {
+            hostIds[i] = sink.saveUser(user(i, Role.HOST));
+        }
+        for (int i = 0; i < guests; i++) {
+            guestIds[i] = sink.saveUser(user(hosts + i, Role.GUEST));
+        }
+    }
+
+    public void generatePlaces(Sink sink) {
+        if (hostIds == null) {
+            throw new IllegalStateException("Se deben generar los usuarios antes que los alojamientos");
+        }
+        for (int i = 0; i < settings.places(); i++) {
+            Place place = place(i, sink);
+            List<Booking> bookings = new ArrayList<>();
+            List<Review> reviews = new ArrayList<>();
+            history(place, sink, bookings, reviews);
+            sink.savePlace(place, bookings, reviews);
+        }
+    }
+
+    private User user(int index, Role role) {
+        User user = new User();
+        String first = pick(FIRST_NAMES);
+        String last = pick(LAST_NAMES);
+        user.setName(first + " " + last);
+        user.setEmail("usuario" + index + "@sintetico.test");
+        user.setRole(role);
+        user.setIsHost(role == Role.HOST);
+        user.setStatus(random.nextDouble() < 0.98 ? Status.ACTIVE : Status.INACTIVE);
+        user.setPhone("+5730" + (10_000_000 + random.nextInt(90_000_000)));
+        user.setDateBirth(settings.anchorDate().minusYears(18 + random.nextInt(55)).minusDays(random.nextInt(365)));
+        user.setCreatedAt(anchor.minusDays(settings.historyDays() + random.nextInt(365))
+                .plusMinutes(random.nextInt(24 * 60)));
+        return user;
+    }
+
+    private Place place(int index, Sink sink) {
+        City city = CITIES.get(cityIndex());
+        // Anfitriones con ley de potencia: unos pocos gestionan muchos alojamientos
+        long hostId = hostIds[skewedIndex(hostIds.length, 2.0)];
+
+        Place place = new Place();
+        place.setTitle(pick(KINDS) + " " + pick(TRAITS) + " en " + city.name());
+        place.setDescription("Alojamiento " + index + " en " + city.name() + ": " + pick(TRAITS) + ", "
+                + pick(TRAITS) + " y a pocos minutos de los principales sitios turísticos.");
+        place.setHost(sink.userReference(hostId));
+        place.setAddress(address(city, index));
+        // Precio log-normal alrededor del precio base de la ciudad, redondeado a miles
+        double price = city.basePrice() * Math.exp(random.nextGaussian() * 0.45);
+        place.setNightlyPrice(Math.max(40_000, Math.round(price / 1000.0) * 1000.0));
+        place.setMaxGuests(1 + Math.min(15, (int) Math.round(Math.abs(random.nextGaussian()) * 3.5)));
+        place.setImages(images(index));
+        place.setServices(services());
+        place.setStatus(random.nextDouble() < 0.95 ? Status.ACTIVE : Status.INACTIVE);
+        place.setCreatedAt(anchor.minusDays(30 + random.nextInt(Math.max(1, settings.historyDays())))
+                .plusMinutes(random.nextInt(24 * 60)));
+        place.setRatingSum(0L);
+        place.setRatingCount(0L);
+        return place;
+    }
+
+    private Address address(City city, int index) {
+        // Dispersión gaussiana alrededor del centro de la ciudad
+        double dLat = random.nextGaussian() * city.radiusKm() / 2 / EARTH_KM_PER_DEGREE;
+        double dLon = random.nextGaussian() * city.radiusKm() / 2
+                / (EARTH_KM_PER_DEGREE * Math.cos(Math.toRadians(city.latitude())));
+
+        Location location = new Location();
+        location.setLatitude(city.latitude() + dLat);
+        location.setLongitude(city.longitude() + dLon);
+
+        Address address = new Address();
+        address.setAddress((random.nextBoolean() ? "Calle " : "Carrera ") + (1 + random.nextInt(120))
+                + " # " + (1 + random.nextInt(90)) + "-" + (1 + random.nextInt(99)));
+        address.setCity(city.name());
+        address.setLocation(location);
+        return address;
+    }
+
+    private List<String> images(int index) {
+        int count = 1 + random.nextInt(5);
+        List<String> images = new ArrayList<>(count);
+        for (int k = 0; k < count; k++) {
+            images.add("https://picsum.photos/seed/place-" + index + "-" + k + "/1200/800");
+        }
+        return images;
+    }
+
+    private List<Service> services() {
+        List<Service> services = new ArrayList<>();
+        double[] probabilities = {0.9, 0.25, 0.35, 0.3, 0.5};
+        Service[] values = Service.values();
+        for (int i = 0; i < values.length; i++) {
+            if (random.nextDouble() < probabilities[i % probabilities.length]) {
+                services.add(values[i]);
+            }
+        }
+        return services;
+    }
+
+    // Línea de tiempo de reservas del alojamiento: estancias sin solapamiento entre las activas
+    // (ocupación propia de cada alojamiento), algunas cancelaciones que sí se solapan con otras
+    // reservas, y reseñas de una parte de las estancias completadas
+    private void history(Place place, Sink sink, List<Booking> bookings, List<Review> reviews) {
+        double occupancy = 0.1 + 0.75 * (random.nextDouble() + random.nextDouble()) / 2;
+        LocalDate horizon = settings.anchorDate().plusDays(settings.futureDays());
+        LocalDate day = place.getCreatedAt().toLocalDate().plusDays(1 + random.nextInt(30));
+
+        while (true) {
+            int nights = Math.min(21, 1 + geometric(2.5));
+            if (!day.plusDays(nights).isBefore(horizon)) {
+                break;
+            }
+            Booking booking = booking(place, sink, day, nights, false);
+            bookings.add(booking);
+
+            if (random.nextDouble() < 0.05) {
+                // Solicitud cancelada que se cruza con la estancia anterior
+                bookings.add(booking(place, sink, day.plusDays(random.nextInt(nights)), 1 + geometric(2), true));
+            }
+            if (booking.getStatus() == BookingStatus.COMPLETED && random.nextDouble() < settings.reviewRate()) {
+                Review review = review(place, booking);
+                if (review != null) {
+                    reviews.add(review);
+                    place.setRatingSum(place.getRatingSum() + review.getRating());
+                    place.setRatingCount(place.getRatingCount() + 1);
+                }
+            }
+
+            double meanGap = nights * (1 - occupancy) / occupancy;
+            day = day.plusDays(nights + (long) Math.floor(-Math.log(1 - random.nextDouble()) * meanGap));
+        }
+    }
+
+    private Booking booking(Place place, Sink sink, LocalDate checkInDay, int nights, boolean cancelled) {
+        Booking booking = new Booking();
+        booking.setPlace(place);
+        booking.setGuest(sink.userReference(guestIds[skewedIndex(guestIds.length, 1.5)]));
+        booking.setCheckIn(checkInDay.atTime(CHECK_IN_TIME));
+        booking.setCheckOut(checkInDay.plusDays(nights).atTime(CHECK_OUT_TIME));
+        booking.setGuestCount(1 + random.nextInt(place.getMaxGuests()));
+        booking.setPrice(place.getNightlyPrice() * nights);
+
+        BookingStatus status;
+        if (cancelled) {
+            status = BookingStatus.CANCELLED;
+        } else if (!booking.getCheckOut().isAfter(anchor)) {
+            status = random.nextDouble() < 0.92 ? BookingStatus.COMPLETED : BookingStatus.CANCELLED;
+        } else if (!booking.getCheckIn().isAfter(anchor)) {
+            status = BookingStatus.CONFIRMED;
+        } else {
+            status = random.nextDouble() < 0.8 ? BookingStatus.CONFIRMED : BookingStatus.PENDING;
+        }
+        booking.setStatus(status);
+
+        // Anticipación exponencial (media de 20 días); las pendientes se crearon en las últimas horas
+        LocalDateTime createdAt = status == BookingStatus.PENDING
+                ? anchor.minusMinutes(random.nextInt(20 * 60))
+                : booking.getCheckIn().minusDays(1 + geometric(20)).minusMinutes(random.nextInt(24 * 60));
+        booking.setCreatedAt(createdAt.isBefore(place.getCreatedAt()) ? place.getCreatedAt() : createdAt);
+        return booking;
+    }
+
+    private Review review(Place place, Booking booking) {
+        LocalDateTime createdAt = booking.getCheckOut().plusDays(random.nextInt(10)).plusMinutes(random.nextInt(600));
+        if (createdAt.isAfter(anchor)) {
+            return null;
+        }
+        int rating = rating();
+
+        Review review = new Review();
+        review.setPlace(place);
+        review.setUser(booking.getGuest());
+        review.setRating(rating);
+        review.setComment(COMMENTS_BY_RATING[rating - 1]);
+        review.setCreatedAt(createdAt);
+
+        LocalDateTime repliedAt = createdAt.plusDays(1 + random.nextInt(5));
+        if (random.nextDouble() < 0.35 && repliedAt.isBefore(anchor)) {
+            Reply reply = new Reply();
+            reply.setMessage(rating >= 4 ? "¡Gracias por tu visita, te esperamos pronto!"
+                    : "Gracias por tus comentarios, ya estamos trabajando en mejorar.");
+            reply.setRepliedAt(repliedAt);
+            review.setReply(reply);
+        }
+        return review;
+    }
+
+    private int rating() {
+        double r = random.nextDouble();
+        double cumulative = 0;
+        for (int i = 0; i < RATING_WEIGHTS.length; i++) {
+            cumulative += RATING_WEIGHTS[i];
+            if (r < cumulative) {
+                return i + 1;
+            }
+        }
+        return RATING_WEIGHTS.length;
+    }
+
+    private int cityIndex() {
+        int r = random.nextInt(cityCumulativeWeights[cityCumulativeWeights.length - 1]);
+        for (int i = 0; i < cityCumulativeWeights.length; i++) {
+            if (r < cityCumulativeWeights[i]) {
+                return i;
+            }
+        }
+        return cityCumulativeWeights.length - 1;
+    }
+
+    // Índice en [0, size) sesgado hacia los primeros (mayor exponente, mayor concentración)
+    private int skewedIndex(int size, double exponent) {
+        return Math.min(size - 1, (int) (size * Math.pow(random.nextDouble(), exponent)));
+    }
+
+    // Entero >= 0 con distribución geométrica de la media indicada
+    private int geometric(double mean) {
+        double p = 1 / (mean + 1);
+        return (int) Math.floor(Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
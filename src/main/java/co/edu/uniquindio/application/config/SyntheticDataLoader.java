@@ -0,0 +1,159 @@
+package co.edu.uniquindio.application.config;
+
+import co.edu.uniquindio.application.model.Booking;
+import co.edu.uniquindio.application.model.Place;
+import co.edu.uniquindio.application.model.Review;
+import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Perfil "synthetic": reemplaza a DataLoader y llena la base con SyntheticDataGenerator.
+// Las entidades se escriben en transacciones de chunk-size entidades, vaciando el contexto de
+// persistencia en cada commit para que la memoria no crezca con el volumen (ver hibernate.jdbc.batch_size).
+// Los índices en memoria se construyen después, en ApplicationReadyEvent, con los datos ya cargados.
+@Component
+@Profile("synthetic")
+public class SyntheticDataLoader implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataLoader.class);
+
+    // Contraseña de todos los usuarios generados (se cifra una sola vez)
+    static final String PASSWORD = "Synthetic123";
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final PasswordEncoder passwordEncoder;
+    private final SyntheticDataGenerator.Settings settings;
+    private final int chunkSize;
+
+    public SyntheticDataLoader(
+            UserRepository userRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            PasswordEncoder passwordEncoder,
+            @Value("${app.synthetic.seed:42}") long seed,
+            @Value("${app.synthetic.users:1000000}") int users,
+            @Value("${app.synthetic.host-ratio:0.05}") double hostRatio,
+            @Value("${app.synthetic.places:50000}") int places,
+            @Value("${app.synthetic.history-days:730}") int historyDays,
+            @Value("${app.synthetic.future-days:180}") int futureDays,
+            @Value("${app.synthetic.review-rate:0.55}") double reviewRate,
+            @Value("${app.synthetic.anchor-date:}") String anchorDate,
+            @Value("${app.synthetic.chunk-size:1000}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.transactionManager = transactionManager;
+        this.passwordEncoder = passwordEncoder;
+        this.settings = new SyntheticDataGenerator.Settings(seed, users, hostRatio, places, historyDays,
+                futureDays, reviewRate, anchorDate.isBlank() ? LocalDate.now() : LocalDate.parse(anchorDate));
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (userRepository.count() > 0) {
+            logger.info("La base ya tiene datos; se omite la generación sintética");
+            return;
+        }
+        // La fecha base queda en el log para poder repetir exactamente la misma carga
+        logger.info("Generando datos sintéticos: {} (repetible con app.synthetic.seed={} y app.synthetic.anchor-date={})",
+                settings, settings.seed(), settings.anchorDate());
+
+        ChunkedSink sink = new ChunkedSink(passwordEncoder.encode(PASSWORD));
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(settings);
+        long started = System.nanoTime();
+
+        sink.begin();
+        generator.generateUsers(sink);
+        sink.commit();
+        logger.info("Usuarios generados: {}", sink.users);
+
+        sink.begin();
+        generator.generatePlaces(sink);
+        sink.commit();
+
+        double seconds = (System.nanoTime() - started) / 1e9;
+        long rows = sink.users + sink.places + sink.bookings + sink.reviews;
+        logger.info("Datos sintéticos cargados en {} s: {} usuarios, {} alojamientos, {} reservas, {} reseñas ({} filas/s)",
+                String.format("%.1f", seconds), sink.users, sink.places, sink.bookings, sink.reviews,
+                Math.round(rows / Math.max(seconds, 0.001)));
+    }
+
+    // Escribe en transacciones manuales de chunkSize entidades
+    private final class ChunkedSink implements SyntheticDataGenerator.Sink {
+
+        private final String passwordHash;
+        private TransactionStatus transaction;
+        private int pending;
+        private long users;
+        private long places;
+        private long bookings;
+        private long reviews;
+
+        ChunkedSink(String passwordHash) {
+            this.passwordHash = passwordHash;
+        }
+
+        @Override
+        public Long saveUser(User user) {
+            user.setPassword(passwordHash);
+            entityManager.persist(user);
+            users++;
+            Long id = user.getId();
+            written(1);
+            return id;
+        }
+
+        @Override
+        public User userReference(Long id) {
+            return entityManager.getReference(User.class, id);
+        }
+
+        @Override
+        public void savePlace(Place place, List<Booking> placeBookings, List<Review> placeReviews) {
+            entityManager.persist(place);
+            placeBookings.forEach(entityManager::persist);
+            placeReviews.forEach(entityManager::persist);
+            places++;
+            bookings += placeBookings.size();
+            reviews += placeReviews.size();
+            written(1 + placeBookings.size() + placeReviews.size());
+            if (places % 1000 == 0) {
+                logger.info("Alojamientos generados: {} ({} reservas, {} reseñas)", places, bookings, reviews);
+            }
+        }
+
+        void begin() {
+            transaction = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+            pending = 0;
+        }
+
+        void commit() {
+            entityManager.flush();
+            entityManager.clear();
+            transactionManager.commit(transaction);
+        }
+
+        private void written(int entities) {
+            pending += entities;
+            if (pending >= chunkSize) {
+                commit();
+                begin();
+            }
+        }
+    }
+}
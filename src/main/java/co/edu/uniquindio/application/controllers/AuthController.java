@@ -113,7 +113,8 @@ public class AuthController {
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Código enviado exitosamente"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Email no registrado en el sistema")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Email no registrado en el sistema"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "Demasiadas solicitudes para este email")
     })
     public ResponseEntity<ApiResponse<Void>> requestPasswordReset(
             @Parameter(description = "Email del usuario que solicita el restablecimiento", required = true, example = "usuario@ejemplo.com")
@@ -1,15 +1,22 @@
 package co.edu.uniquindio.application.controllers;
 
+import co.edu.uniquindio.application.dto.BookingExportRow;
 import co.edu.uniquindio.application.dto.BookingRequest;
 import co.edu.uniquindio.application.dto.ApiResponse;
+import co.edu.uniquindio.application.dto.CursorPage;
+import co.edu.uniquindio.application.dto.PageCursor;
 import co.edu.uniquindio.application.dto.BookingResponse;
 import co.edu.uniquindio.application.mappers.BookingMapper;
 import co.edu.uniquindio.application.model.Booking;
 import co.edu.uniquindio.application.model.BookingStatus;
 import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.security.AuthenticatedUser;
 import co.edu.uniquindio.application.services.BookingService;
+import co.edu.uniquindio.application.services.ListingService;
 import co.edu.uniquindio.application.services.PlaceService;
 import co.edu.uniquindio.application.services.UserService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -18,11 +25,19 @@ import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequestMapping("/api/bookings")
@@ -31,9 +46,11 @@ import java.util.List;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final ListingService listingService;
     private final UserService userService;
     private final PlaceService placeService;
     private final BookingMapper bookingMapper;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(
@@ -92,49 +109,94 @@ public class BookingController {
     @GetMapping("/guest/{guestId}")
     @Operation(
             summary = "Obtener reservas por huésped",
-            description = "Lista todas las reservas realizadas por un huésped específico, ordenadas por fecha de creación."
+            description = "Lista las reservas realizadas por un huésped específico, paginadas por cursor y ordenadas por fecha de creación (más recientes primero)."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Lista de reservas obtenida exitosamente"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Huésped no encontrado")
     })
-    public ResponseEntity<ApiResponse<List<BookingResponse>>> getBookingsByGuest(
+    public ResponseEntity<ApiResponse<CursorPage<BookingResponse>>> getBookingsByGuest(
             @Parameter(name = "guestId", description = "ID del huésped", required = true, example = "1")
-            @PathVariable("guestId") Long guestId) {
+            @PathVariable("guestId") Long guestId,
 
-        User guest = userService.getUserById(guestId)
-                .orElseThrow(() -> new IllegalArgumentException("Huésped no encontrado"));
+            @Parameter(description = "Cursor de la página siguiente (nextCursor de la respuesta anterior)", required = false)
+            @RequestParam(name = "cursor", required = false) String cursor,
 
-        List<Booking> bookings = bookingService.getBookingsByGuest(guest);
-        List<BookingResponse> responses = bookings.stream()
-                .map(bookingMapper::toResponse)
-                .toList();
+            @Parameter(description = "Tamaño de página (máximo 100)", required = false, example = "20")
+            @RequestParam(name = "size", required = false) Integer size) {
 
-        return ResponseEntity.ok(ApiResponse.success(responses));
+        CursorPage<BookingResponse> page = listingService.getBookingsByGuest(guestId, PageCursor.decode(cursor), PageCursor.validateSize(size));
+        return ResponseEntity.ok(ApiResponse.success(page));
     }
 
     @GetMapping("/host/{hostId}")
     @Operation(
             summary = "Obtener reservas por anfitrión",
-            description = "Lista todas las reservas recibidas por un anfitrión específico para sus alojamientos."
+            description = "Lista las reservas recibidas por un anfitrión específico para sus alojamientos, paginadas por cursor."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Lista de reservas obtenida exitosamente"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Anfitrión no encontrado")
     })
-    public ResponseEntity<ApiResponse<List<BookingResponse>>> getBookingsByHost(
+    public ResponseEntity<ApiResponse<CursorPage<BookingResponse>>> getBookingsByHost(
             @Parameter(name = "hostId", description = "ID del anfitrión", required = true, example = "2")
-            @PathVariable("hostId") Long hostId) {
+            @PathVariable("hostId") Long hostId,
 
+            @Parameter(description = "Cursor de la página siguiente (nextCursor de la respuesta anterior)", required = false)
+            @RequestParam(name = "cursor", required = false) String cursor,
+
+            @Parameter(description = "Tamaño de página (máximo 100)", required = false, example = "20")
+            @RequestParam(name = "size", required = false) Integer size) {
+
+        CursorPage<BookingResponse> page = listingService.getBookingsByHost(hostId, PageCursor.decode(cursor), PageCursor.validateSize(size));
+        return ResponseEntity.ok(ApiResponse.success(page));
+    }
+
+    @GetMapping("/host/{hostId}/export")
+    @Operation(
+            summary = "Exportar historial de reservas del anfitrión",
+            description = "Descarga el historial completo de reservas del anfitrión en formato NDJSON (una reserva por línea) o CSV. La respuesta se genera en streaming sin cargar toda la lista en memoria."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Exportación generada exitosamente"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Formato de exportación no soportado"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "El usuario autenticado no es el anfitrión ni un administrador"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Anfitrión no encontrado")
+    })
+    public ResponseEntity<StreamingResponseBody> exportBookingsByHost(
+            @Parameter(name = "hostId", description = "ID del anfitrión", required = true, example = "2")
+            @PathVariable("hostId") Long hostId,
+
+            @Parameter(description = "Formato de salida: ndjson o csv", required = false, example = "ndjson")
+            @RequestParam(name = "format", defaultValue = "ndjson") String format) {
+
+        AuthenticatedUser.checkOwnerOrAdmin(hostId);
         User host = userService.getUserById(hostId)
                 .orElseThrow(() -> new IllegalArgumentException("Anfitrión no encontrado"));
 
-        List<Booking> bookings = bookingService.getBookingsByHost(host);
-        List<BookingResponse> responses = bookings.stream()
-                .map(bookingMapper::toResponse)
-                .toList();
-
-        return ResponseEntity.ok(ApiResponse.success(responses));
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            throw new IllegalArgumentException("Formato de exportación no soportado: " + format);
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (csv) {
+                writer.write(CSV_HEADER);
+            }
+            try {
+                bookingService.exportBookingsByHost(host, row -> writeExportRow(writer, row, csv));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            writer.flush();
+        };
+
+        String filename = "reservas-anfitrion-" + hostId + (csv ? ".csv" : ".ndjson");
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
     }
 
     @PutMapping("/{id}/status")
@@ -212,6 +274,40 @@ public class BookingController {
         return ResponseEntity.ok(ApiResponse.success(metrics));
     }
 
+    private static final String CSV_HEADER =
+            "id,checkIn,checkOut,guestCount,price,status,createdAt,guestId,guestName,guestEmail,placeId,placeTitle\n";
+
+    private void writeExportRow(Writer writer, BookingExportRow row, boolean csv) {
+        try {
+            if (csv) {
+                writer.write(String.join(",",
+                        csvValue(row.getId()), csvValue(row.getCheckIn()), csvValue(row.getCheckOut()),
+                        csvValue(row.getGuestCount()), csvValue(row.getPrice()), csvValue(row.getStatus()),
+                        csvValue(row.getCreatedAt()), csvValue(row.getGuestId()), csvValue(row.getGuestName()),
+                        csvValue(row.getGuestEmail()), csvValue(row.getPlaceId()), csvValue(row.getPlaceTitle())));
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+            }
+            writer.write('\n');
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Error serializando la reserva " + row.getId(), ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // Celda vacía para null; escapa comillas, comas y saltos de línea según RFC 4180
+    private static String csvValue(Object cell) {
+        if (cell == null) {
+            return "";
+        }
+        String value = cell.toString();
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
     @Data
     @AllArgsConstructor
     private static class HostMetricsResponse {
@@ -1,14 +1,23 @@
 package co.edu.uniquindio.application.controllers;
 
+import co.edu.uniquindio.application.cache.PlaceResponseCache;
 import co.edu.uniquindio.application.dto.PlaceCreateRequest;
 import co.edu.uniquindio.application.dto.PlaceUpdateRequest;
 import co.edu.uniquindio.application.dto.ApiResponse;
+import co.edu.uniquindio.application.dto.CursorPage;
+import co.edu.uniquindio.application.dto.NearbyPlace;
+import co.edu.uniquindio.application.dto.PageCursor;
+import co.edu.uniquindio.application.dto.PlaceETag;
+import co.edu.uniquindio.application.dto.PlaceImportRequest;
+import co.edu.uniquindio.application.dto.PlaceImportResponse;
 import co.edu.uniquindio.application.dto.PlaceResponse;
 import co.edu.uniquindio.application.mappers.PlaceMapper;
 import co.edu.uniquindio.application.model.Place;
+import co.edu.uniquindio.application.model.Service;
 import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.security.AuthenticatedUser;
+import co.edu.uniquindio.application.services.ListingService;
 import co.edu.uniquindio.application.services.PlaceService;
-import co.edu.uniquindio.application.services.ReviewService;
 import co.edu.uniquindio.application.services.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,6 +26,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -31,7 +42,8 @@ import java.util.List;
 public class PlaceController {
 
     private final PlaceService placeService;
-    private final ReviewService reviewService;
+    private final ListingService listingService;
+    private final PlaceResponseCache placeResponseCache;
     private final UserService userService;
     private final PlaceMapper placeMapper;
 
@@ -64,25 +76,54 @@ public class PlaceController {
                 .body(ApiResponse.success(response, "Alojamiento creado exitosamente"));
     }
 
+    @PostMapping("/host/{hostId}/import")
+    @Operation(
+            summary = "Importar alojamientos en bloque",
+            description = "Registra de una vez el catálogo de un anfitrión que migra desde otra plataforma (hasta 5000 alojamientos). El lote se valida completo antes de guardarse y se inserta en lotes JDBC; si un alojamiento es inválido no se guarda ninguno. Solo disponible para el propio anfitrión o un administrador."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "Alojamientos importados exitosamente"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Lote vacío, demasiado grande o con alojamientos inválidos"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "No autorizado para importar alojamientos de este anfitrión"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Anfitrión no encontrado")
+    })
+    public ResponseEntity<ApiResponse<PlaceImportResponse>> importPlaces(
+            @Parameter(name = "hostId", description = "ID del anfitrión propietario de los alojamientos", required = true, example = "1")
+            @PathVariable("hostId") Long hostId,
+
+            @Valid @RequestBody PlaceImportRequest request) {
+
+        AuthenticatedUser.checkOwnerOrAdmin(hostId);
+
+        User host = userService.getUserById(hostId)
+                .orElseThrow(() -> new IllegalArgumentException("Anfitrión no encontrado"));
+
+        List<Place> places = request.getPlaces().stream().map(placeMapper::toEntity).toList();
+        List<Place> imported = placeService.importPlaces(host, places);
+        PlaceImportResponse response = new PlaceImportResponse(imported.size(),
+                imported.stream().map(Place::getId).toList());
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "Alojamientos importados exitosamente"));
+    }
+
     @GetMapping
     @Operation(
             summary = "Listar todos los alojamientos",
-            description = "Obtiene la lista completa de alojamientos disponibles en el sistema, incluyendo calificaciones y conteo de reseñas."
+            description = "Obtiene los alojamientos activos del sistema paginados por cursor (más recientes primero), incluyendo calificaciones y conteo de reseñas."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Lista de alojamientos obtenida exitosamente")
     })
-    public ResponseEntity<ApiResponse<List<PlaceResponse>>> getAllPlaces() {
-        List<Place> places = placeService.getPlacesByPriceRange(0.0, Double.MAX_VALUE);
-        List<PlaceResponse> responses = places.stream()
-                .map(place -> {
-                    Double avgRating = reviewService.getAverageRatingByPlace(place);
-                    Long reviewCount = reviewService.getReviewCountByPlace(place);
-                    return placeMapper.toResponseWithStats(place, avgRating, reviewCount);
-                })
-                .toList();
+    public ResponseEntity<ApiResponse<CursorPage<PlaceResponse>>> getAllPlaces(
+            @Parameter(description = "Cursor de la página siguiente (nextCursor de la respuesta anterior)", required = false)
+            @RequestParam(name = "cursor", required = false) String cursor,
 
-        return ResponseEntity.ok(ApiResponse.success(responses));
+            @Parameter(description = "Tamaño de página (máximo 100)", required = false, example = "20")
+            @RequestParam(name = "size", required = false) Integer size) {
+
+        CursorPage<PlaceResponse> page = listingService.getActivePlaces(PageCursor.decode(cursor), PageCursor.validateSize(size));
+        return ResponseEntity.ok(ApiResponse.success(page));
     }
 
     @GetMapping("/{id}")
@@ -92,20 +133,44 @@ public class PlaceController {
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Alojamiento encontrado exitosamente"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "El alojamiento no ha cambiado desde el ETag enviado"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Alojamiento no encontrado")
     })
     public ResponseEntity<ApiResponse<PlaceResponse>> getPlaceById(
             @Parameter(name = "id", description = "ID único del alojamiento", required = true, example = "1")
-            @PathVariable("id") Long id) {
-
-        Place place = placeService.getPlaceById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Alojamiento no encontrado"));
-
-        Double avgRating = reviewService.getAverageRatingByPlace(place);
-        Long reviewCount = reviewService.getReviewCountByPlace(place);
-        PlaceResponse response = placeMapper.toResponseWithStats(place, avgRating, reviewCount);
+            @PathVariable("id") Long id,
 
-        return ResponseEntity.ok(ApiResponse.success(response));
+            @Parameter(description = "ETag de una respuesta anterior", required = false)
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        // Lectura desde caché: sin acceso a base de datos mientras el alojamiento no cambie
+        PlaceResponseCache.Entry entry = placeResponseCache.getIfPresent(id);
+
+        // Revalidación sin caché: basta la consulta de versiones, sin cargar ni mapear el alojamiento
+        if (entry == null && ifNoneMatch != null) {
+            String eTag = placeService.getPlaceVersion(id).map(PlaceETag::of)
+                    .orElseThrow(() -> new IllegalArgumentException("Alojamiento no encontrado"));
+            if (PlaceETag.matches(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+        }
+
+        if (entry == null) {
+            entry = placeResponseCache.get(id, placeId -> placeService.getPlaceById(placeId)
+                    .map(place -> new PlaceResponseCache.Entry(placeMapper.toResponse(place), PlaceETag.of(place)))
+                    .orElse(null));
+        }
+        if (entry == null) {
+            throw new IllegalArgumentException("Alojamiento no encontrado");
+        }
+        if (PlaceETag.matches(ifNoneMatch, entry.eTag())) {
+            return notModified(entry.eTag());
+        }
+
+        return ResponseEntity.ok()
+                .eTag(entry.eTag())
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(entry.response()));
     }
 
     @GetMapping("/search/available")
@@ -138,16 +203,86 @@ public class PlaceController {
             @RequestParam(name = "minPrice", required = false) Double minPrice,
 
             @Parameter(description = "Precio máximo por noche", required = false, example = "200")
-            @RequestParam(name = "maxPrice", required = false) Double maxPrice
-    ) {
+            @RequestParam(name = "maxPrice", required = false) Double maxPrice,
+
+            @Parameter(description = "Calificación promedio mínima (resultados ordenados por calificación)", required = false, example = "4")
+            @RequestParam(name = "minRating", required = false) Double minRating,
 
-        List<Place> places = placeService.getAvailablePlaces(city, checkIn, checkOut, guests, minPrice, maxPrice);
+            @Parameter(description = "Servicios que el alojamiento debe tener todos", required = false, example = "WIFI,POOL")
+            @RequestParam(name = "services", required = false) List<Service> services,
 
+            @Parameter(description = "Servicios de los que el alojamiento debe tener al menos uno", required = false, example = "PARKING,BREAKFAST")
+            @RequestParam(name = "anyServices", required = false) List<Service> anyServices
+    ) {
+
+        List<Place> places = placeService.getAvailablePlaces(city, checkIn, checkOut, guests, minPrice, maxPrice, minRating,
+                services, anyServices);
         List<PlaceResponse> responses = places.stream()
-                .map(place -> {
-                    Double avgRating = reviewService.getAverageRatingByPlace(place);
-                    Long reviewCount = reviewService.getReviewCountByPlace(place);
-                    return placeMapper.toResponseWithStats(place, avgRating, reviewCount);
+                .map(placeMapper::toResponse)
+                .toList();
+
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+
+    @GetMapping("/search/text")
+    @Operation(
+            summary = "Buscar alojamientos por palabras clave",
+            description = "Busca en título, descripción y ciudad de los alojamientos activos (sin distinguir tildes ni plurales). Retorna los resultados ordenados por relevancia."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Búsqueda completada exitosamente"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Consulta o límite inválidos")
+    })
+    public ResponseEntity<ApiResponse<List<PlaceResponse>>> searchPlacesByText(
+            @Parameter(description = "Palabras clave", required = true, example = "cabaña con piscina")
+            @RequestParam(name = "q") String query,
+
+            @Parameter(description = "Número máximo de resultados (por defecto 20, máximo 100)", required = false, example = "20")
+            @RequestParam(name = "limit", required = false) Integer limit
+    ) {
+
+        List<PlaceResponse> responses = placeService.searchPlacesByText(query, limit).stream()
+                .map(placeMapper::toResponse)
+                .toList();
+
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+
+    @GetMapping("/search/nearby")
+    @Operation(
+            summary = "Buscar alojamientos cercanos",
+            description = "Retorna los alojamientos activos dentro de un radio (km) alrededor de unas coordenadas, ordenados por distancia."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Búsqueda completada exitosamente"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Coordenadas, radio o límite inválidos")
+    })
+    public ResponseEntity<ApiResponse<List<PlaceResponse>>> searchNearbyPlaces(
+            @Parameter(description = "Latitud del punto de búsqueda", required = true, example = "4.5339")
+            @RequestParam(name = "lat") Double latitude,
+
+            @Parameter(description = "Longitud del punto de búsqueda", required = true, example = "-75.6811")
+            @RequestParam(name = "lng") Double longitude,
+
+            @Parameter(description = "Radio de búsqueda en kilómetros (máximo 100)", required = true, example = "10")
+            @RequestParam(name = "radiusKm") Double radiusKm,
+
+            @Parameter(description = "Servicios que el alojamiento debe tener todos", required = false, example = "WIFI,POOL")
+            @RequestParam(name = "services", required = false) List<Service> services,
+
+            @Parameter(description = "Servicios de los que el alojamiento debe tener al menos uno", required = false, example = "PARKING,BREAKFAST")
+            @RequestParam(name = "anyServices", required = false) List<Service> anyServices,
+
+            @Parameter(description = "Número máximo de resultados (por defecto 50, máximo 200)", required = false, example = "20")
+            @RequestParam(name = "limit", required = false) Integer limit
+    ) {
+
+        List<NearbyPlace> nearby = placeService.getPlacesNear(latitude, longitude, radiusKm, services, anyServices, limit);
+        List<PlaceResponse> responses = nearby.stream()
+                .map(result -> {
+                    PlaceResponse response = placeMapper.toResponse(result.place());
+                    response.setDistanceKm(result.distanceKm());
+                    return response;
                 })
                 .toList();
 
@@ -163,19 +298,18 @@ public class PlaceController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Lista de alojamientos obtenida exitosamente"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Anfitrión no encontrado")
     })
-    public ResponseEntity<ApiResponse<List<PlaceResponse>>> getPlacesByHost(
+    public ResponseEntity<ApiResponse<CursorPage<PlaceResponse>>> getPlacesByHost(
             @Parameter(name = "hostId", description = "ID del anfitrión", required = true, example = "1")
-            @PathVariable("hostId") Long hostId) {
+            @PathVariable("hostId") Long hostId,
 
-        User host = userService.getUserById(hostId)
-                .orElseThrow(() -> new IllegalArgumentException("Anfitrión no encontrado"));
+            @Parameter(description = "Cursor de la página siguiente (nextCursor de la respuesta anterior)", required = false)
+            @RequestParam(name = "cursor", required = false) String cursor,
 
-        List<Place> places = placeService.getPlacesByHost(host);
-        List<PlaceResponse> responses = places.stream()
-                .map(placeMapper::toResponse)
-                .toList();
+            @Parameter(description = "Tamaño de página (máximo 100)", required = false, example = "20")
+            @RequestParam(name = "size", required = false) Integer size) {
 
-        return ResponseEntity.ok(ApiResponse.success(responses));
+        CursorPage<PlaceResponse> page = listingService.getPlacesByHost(hostId, PageCursor.decode(cursor), PageCursor.validateSize(size));
+        return ResponseEntity.ok(ApiResponse.success(page));
     }
 
     @PutMapping("/{id}")
@@ -305,4 +439,12 @@ public class PlaceController {
         placeService.removeImageFromPlace(id, imageUrl);
         return ResponseEntity.ok(ApiResponse.success(null, "Imagen eliminada exitosamente"));
     }
-}
\ No newline at end of file
+
+    // 304 sin cuerpo: el cliente reutiliza su copia
+    private <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+}
@@ -3,10 +3,14 @@ package co.edu.uniquindio.application.controllers;
 import co.edu.uniquindio.application.dto.ReplyRequest;
 import co.edu.uniquindio.application.dto.ReviewRequest;
 import co.edu.uniquindio.application.dto.ApiResponse;
+import co.edu.uniquindio.application.dto.CursorPage;
+import co.edu.uniquindio.application.dto.PageCursor;
+import co.edu.uniquindio.application.dto.PlaceETag;
 import co.edu.uniquindio.application.dto.ReviewResponse;
 import co.edu.uniquindio.application.mappers.ReviewMapper;
 import co.edu.uniquindio.application.model.Review;
 import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.services.ListingService;
 import co.edu.uniquindio.application.services.PlaceService;
 import co.edu.uniquindio.application.services.ReviewService;
 import co.edu.uniquindio.application.services.UserService;
@@ -16,12 +20,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/reviews")
 @RequiredArgsConstructor
@@ -31,6 +35,7 @@ public class ReviewController {
     private final ReviewService reviewService;
     private final UserService userService;
     private final PlaceService placeService;
+    private final ListingService listingService;
     private final ReviewMapper reviewMapper;
 
     @PostMapping
@@ -99,49 +104,68 @@ public class ReviewController {
     @GetMapping("/place/{placeId}")
     @Operation(
             summary = "Obtener reseñas por alojamiento",
-            description = "Lista todas las reseñas de un alojamiento específico, ordenadas por fecha de creación (más recientes primero)."
+            description = "Lista las reseñas de un alojamiento específico, paginadas por cursor y ordenadas por fecha de creación (más recientes primero)."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Lista de reseñas obtenida exitosamente"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Las reseñas no han cambiado desde el ETag enviado"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Alojamiento no encontrado")
     })
-    public ResponseEntity<ApiResponse<List<ReviewResponse>>> getReviewsByPlace(
+    public ResponseEntity<ApiResponse<CursorPage<ReviewResponse>>> getReviewsByPlace(
             @Parameter(name = "placeId", description = "ID del alojamiento", required = true, example = "1")
-            @PathVariable("placeId") Long placeId) {
+            @PathVariable("placeId") Long placeId,
 
-        var place = placeService.getPlaceById(placeId)
-                .orElseThrow(() -> new IllegalArgumentException("Alojamiento no encontrado"));
+            @Parameter(description = "Cursor de la página siguiente (nextCursor de la respuesta anterior)", required = false)
+            @RequestParam(name = "cursor", required = false) String cursor,
+
+            @Parameter(description = "Tamaño de página (máximo 100)", required = false, example = "20")
+            @RequestParam(name = "size", required = false) Integer size,
 
-        List<Review> reviews = reviewService.getReviewsByPlace(place);
-        List<ReviewResponse> responses = reviews.stream()
-                .map(reviewMapper::toResponse)
-                .toList();
+            @Parameter(description = "ETag de una respuesta anterior", required = false)
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int pageSize = PageCursor.validateSize(size);
+
+        // La revisión de reseñas del alojamiento decide el 304 antes de consultar o mapear reseñas
+        String eTag = placeService.getPlaceVersion(placeId)
+                .map(version -> PlaceETag.ofReviews(version, pageCursor, pageSize))
+                .orElseThrow(() -> new IllegalArgumentException("Alojamiento no encontrado"));
+        if (PlaceETag.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
 
-        return ResponseEntity.ok(ApiResponse.success(responses));
+        CursorPage<ReviewResponse> page = listingService.getReviewsByPlace(placeId, pageCursor, pageSize);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(page));
     }
 
     @GetMapping("/user/{userId}")
     @Operation(
             summary = "Obtener reseñas por usuario",
-            description = "Lista todas las reseñas realizadas por un usuario específico."
+            description = "Lista las reseñas realizadas por un usuario específico, paginadas por cursor."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Lista de reseñas obtenida exitosamente"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Usuario no encontrado")
     })
-    public ResponseEntity<ApiResponse<List<ReviewResponse>>> getReviewsByUser(
+    public ResponseEntity<ApiResponse<CursorPage<ReviewResponse>>> getReviewsByUser(
             @Parameter(name = "userId", description = "ID del usuario", required = true, example = "1")
-            @PathVariable("userId") Long userId) {
+            @PathVariable("userId") Long userId,
 
-        User user = userService.getUserById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
+            @Parameter(description = "Cursor de la página siguiente (nextCursor de la respuesta anterior)", required = false)
+            @RequestParam(name = "cursor", required = false) String cursor,
 
-        List<Review> reviews = reviewService.getReviewsByUser(user);
-        List<ReviewResponse> responses = reviews.stream()
-                .map(reviewMapper::toResponse)
-                .toList();
+            @Parameter(description = "Tamaño de página (máximo 100)", required = false, example = "20")
+            @RequestParam(name = "size", required = false) Integer size) {
 
-        return ResponseEntity.ok(ApiResponse.success(responses));
+        CursorPage<ReviewResponse> page = listingService.getReviewsByUser(userId, PageCursor.decode(cursor), PageCursor.validateSize(size));
+        return ResponseEntity.ok(ApiResponse.success(page));
     }
 
     @PutMapping("/{id}")
@@ -219,48 +243,46 @@ public class ReviewController {
     @GetMapping("/host/{hostId}/with-replies")
     @Operation(
             summary = "Obtener reseñas con respuestas",
-            description = "Lista todas las reseñas de los alojamientos de un anfitrión que ya tienen respuestas."
+            description = "Lista las reseñas de los alojamientos de un anfitrión que ya tienen respuestas, paginadas por cursor."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Lista de reseñas con respuestas obtenida exitosamente"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Anfitrión no encontrado")
     })
-    public ResponseEntity<ApiResponse<List<ReviewResponse>>> getReviewsWithReplies(
+    public ResponseEntity<ApiResponse<CursorPage<ReviewResponse>>> getReviewsWithReplies(
             @Parameter(name = "hostId", description = "ID del anfitrión", required = true, example = "2")
-            @PathVariable("hostId") Long hostId) {
+            @PathVariable("hostId") Long hostId,
 
-        User host = userService.getUserById(hostId)
-                .orElseThrow(() -> new IllegalArgumentException("Anfitrión no encontrado"));
+            @Parameter(description = "Cursor de la página siguiente (nextCursor de la respuesta anterior)", required = false)
+            @RequestParam(name = "cursor", required = false) String cursor,
 
-        List<Review> reviews = reviewService.getReviewsWithRepliesByHost(host);
-        List<ReviewResponse> responses = reviews.stream()
-                .map(reviewMapper::toResponse)
-                .toList();
+            @Parameter(description = "Tamaño de página (máximo 100)", required = false, example = "20")
+            @RequestParam(name = "size", required = false) Integer size) {
 
-        return ResponseEntity.ok(ApiResponse.success(responses));
+        CursorPage<ReviewResponse> page = listingService.getReviewsWithRepliesByHost(hostId, PageCursor.decode(cursor), PageCursor.validateSize(size));
+        return ResponseEntity.ok(ApiResponse.success(page));
     }
 
     @GetMapping("/host/{hostId}/without-replies")
     @Operation(
             summary = "Obtener reseñas sin respuestas",
-            description = "Lista todas las reseñas de los alojamientos de un anfitrión que aún no tienen respuestas."
+            description = "Lista las reseñas de los alojamientos de un anfitrión que aún no tienen respuestas, paginadas por cursor."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Lista de reseñas sin respuestas obtenida exitosamente"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Anfitrión no encontrado")
     })
-    public ResponseEntity<ApiResponse<List<ReviewResponse>>> getReviewsWithoutReplies(
+    public ResponseEntity<ApiResponse<CursorPage<ReviewResponse>>> getReviewsWithoutReplies(
             @Parameter(name = "hostId", description = "ID del anfitrión", required = true, example = "2")
-            @PathVariable("hostId") Long hostId) {
+            @PathVariable("hostId") Long hostId,
 
-        User host = userService.getUserById(hostId)
-                .orElseThrow(() -> new IllegalArgumentException("Anfitrión no encontrado"));
+            @Parameter(description = "Cursor de la página siguiente (nextCursor de la respuesta anterior)", required = false)
+            @RequestParam(name = "cursor", required = false) String cursor,
 
-        List<Review> reviews = reviewService.getReviewsWithoutRepliesByHost(host);
-        List<ReviewResponse> responses = reviews.stream()
-                .map(reviewMapper::toResponse)
-                .toList();
+            @Parameter(description = "Tamaño de página (máximo 100)", required = false, example = "20")
+            @RequestParam(name = "size", required = false) Integer size) {
 
-        return ResponseEntity.ok(ApiResponse.success(responses));
+        CursorPage<ReviewResponse> page = listingService.getReviewsWithoutRepliesByHost(hostId, PageCursor.decode(cursor), PageCursor.validateSize(size));
+        return ResponseEntity.ok(ApiResponse.success(page));
     }
 }
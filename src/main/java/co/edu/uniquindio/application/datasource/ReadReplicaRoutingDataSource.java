@@ -0,0 +1,38 @@
+package co.edu.uniquindio.application.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// Envía las transacciones @Transactional(readOnly = true) a la réplica y todo lo demás al primario.
+// Debe envolverse en un LazyConnectionDataSourceProxy: la marca de solo lectura se publica después
+// de abrir la transacción, así que la conexión real se elige con la primera sentencia.
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final ReadYourWritesWindow readYourWritesWindow;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesWindow readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    public Route currentRoute() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !readYourWritesWindow.isActiveForCurrentUser()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
@@ -0,0 +1,45 @@
+package co.edu.uniquindio.application.datasource;
+
+import co.edu.uniquindio.application.security.AuthenticatedUser;
+import co.edu.uniquindio.application.transaction.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Ventana de lectura de las propias escrituras: durante un tiempo tras confirmar una reserva o reseña,
+// las lecturas del mismo usuario van al primario aunque sean de solo lectura, para que no vea en la
+// réplica (con retraso de replicación) un estado anterior a su propio cambio.
+@Component
+public class ReadYourWritesWindow {
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesWindow(
+            @Value("${app.datasource.read-your-writes-window:5s}") Duration window,
+            @Value("${app.datasource.read-your-writes-max-size:10000}") long maxSize) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    // La ventana empieza al commit: es entonces cuando el cambio comienza a replicarse
+    public void recordWrite(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        AfterCommit.run(() -> recentWriters.put(userId, Boolean.TRUE));
+    }
+
+    public boolean isActive(Long userId) {
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    // Usuario autenticado de la petición en curso (SecurityContext del hilo)
+    public boolean isActiveForCurrentUser() {
+        return AuthenticatedUser.current().map(user -> isActive(user.id())).orElse(false);
+    }
+}
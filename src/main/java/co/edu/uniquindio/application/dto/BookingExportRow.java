@@ -0,0 +1,26 @@
+package co.edu.uniquindio.application.dto;
+
+import co.edu.uniquindio.application.model.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// Fila plana para la exportación de reservas: se construye directamente en la consulta JPQL,
+// sin entidades administradas ni relaciones
+@Data
+@AllArgsConstructor
+public class BookingExportRow {
+    private Long id;
+    private LocalDateTime checkIn;
+    private LocalDateTime checkOut;
+    private Integer guestCount;
+    private Double price;
+    private BookingStatus status;
+    private LocalDateTime createdAt;
+    private Long guestId;
+    private String guestName;
+    private String guestEmail;
+    private Long placeId;
+    private String placeTitle;
+}
@@ -0,0 +1,5 @@
+package co.edu.uniquindio.application.dto;
+
+// Resultado de un lote de transiciones de estado: reservas seleccionadas y efectivamente actualizadas
+public record BookingTransitionResult(int scanned, int transitioned) {
+}
@@ -0,0 +1,28 @@
+package co.edu.uniquindio.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.function.Function;
+
+// Página de resultados con el cursor para pedir la siguiente (null si no hay más)
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+
+    // Construye la página a partir de una consulta que pidió size + 1 filas
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, PageCursor> cursorOf) {
+        boolean hasMore = fetched.size() > size;
+        List<T> items = hasMore ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasMore ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor, hasMore);
+    }
+}
@@ -0,0 +1,7 @@
+package co.edu.uniquindio.application.dto;
+
+import co.edu.uniquindio.application.model.Place;
+
+// Resultado de búsqueda por cercanía: alojamiento y distancia al punto consultado
+public record NearbyPlace(Place place, double distanceKm) {
+}
@@ -0,0 +1,67 @@
+package co.edu.uniquindio.application.dto;
+
+import co.edu.uniquindio.application.model.Place;
+import co.edu.uniquindio.application.repositories.projections.PlaceVersionView;
+
+// ETag fuertes de las lecturas de un alojamiento, derivados de sus contadores de versión:
+// version (alojamiento e imágenes/servicios), reviewRevision (reseñas, respuestas y calificación)
+// y la versión del anfitrión. Cualquier cambio en el contenido de la respuesta cambia la etiqueta
+// (salvo en las páginas de reseñas, que por eso se marcan como débiles).
+public final class PlaceETag {
+
+    private PlaceETag() {
+    }
+
+    public static String of(Place place) {
+        return of(place.getId(), place.getVersion(), place.getReviewRevision(),
+                place.getHost() != null ? place.getHost().getVersion() : null);
+    }
+
+    public static String of(PlaceVersionView version) {
+        return of(version.getId(), version.getVersion(), version.getReviewRevision(), version.getHostVersion());
+    }
+
+    // Página de reseñas: además de las versiones depende del cursor y del tamaño solicitados.
+    // Es débil porque la página incluye datos de los autores (nombre, foto) que no forman parte
+    // de estas versiones. El cursor se toma ya decodificado y se vuelve a codificar, así el texto
+    // del cliente nunca llega tal cual a la cabecera.
+    public static String ofReviews(PlaceVersionView version, PageCursor cursor, int size) {
+        String page = cursor.equals(PageCursor.first()) ? "first" : cursor.encode();
+        return "W/\"r" + stamp(version.getId(), version.getVersion(), version.getReviewRevision(), version.getHostVersion())
+                + "-" + page + "-" + size + "\"";
+    }
+
+    // Comparación débil de If-None-Match (RFC 9110): lista separada por comas, "*" o etiquetas W/
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String expected = opaqueTag(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (opaqueTag(tag).equals(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static String of(Long id, Long version, Long reviewRevision, Long hostVersion) {
+        return "\"p" + stamp(id, version, reviewRevision, hostVersion) + "\"";
+    }
+
+    private static String stamp(Long id, Long version, Long reviewRevision, Long hostVersion) {
+        return id + "-" + nullToZero(version) + "." + nullToZero(reviewRevision) + "." + nullToZero(hostVersion);
+    }
+
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
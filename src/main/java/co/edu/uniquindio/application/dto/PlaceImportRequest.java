@@ -0,0 +1,20 @@
+package co.edu.uniquindio.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+// Lote de alojamientos de un anfitrión que migra su catálogo; se guarda completo o no se guarda
+@Data
+public class PlaceImportRequest {
+
+    public static final int MAX_PLACES = 5000;
+
+    @Valid
+    @NotEmpty(message = "Se requiere al menos un alojamiento")
+    @Size(max = MAX_PLACES, message = "No se pueden importar más de " + MAX_PLACES + " alojamientos por solicitud")
+    private List<PlaceCreateRequest> places;
+}
@@ -0,0 +1,13 @@
+package co.edu.uniquindio.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class PlaceImportResponse {
+    private int imported;
+    private List<Long> placeIds;
+}
@@ -21,4 +21,7 @@ public class PlaceResponse {
     private UserResponse host;
     private Double averageRating;
     private Long reviewCount;
+
+    // Solo en búsquedas por cercanía
+    private Double distanceKm;
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package co.edu.uniquindio.application.exceptions;
+
+import java.time.Duration;
+
+// Demasiadas solicitudes para el mismo destinatario dentro de la ventana; se responde 429 con Retry-After
+public class RateLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
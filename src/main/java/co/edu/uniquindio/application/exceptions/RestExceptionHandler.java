@@ -1,21 +1,30 @@
 package co.edu.uniquindio.application.exceptions;
 
 import co.edu.uniquindio.application.dto.ApiResponse;
+import org.hibernate.exception.JDBCConnectionException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
 @RestControllerAdvice
 public class RestExceptionHandler {
 
+    // Segundos sugeridos al cliente antes de reintentar cuando no hay conexiones disponibles
+    static final String RETRY_AFTER_SECONDS = "1";
+
     @ExceptionHandler(NoResourceFoundException.class)
     public ResponseEntity<ApiResponse<String>> noResourceFoundExceptionHandler(NoResourceFoundException ex) {
         ApiResponse<String> response = ApiResponse.error("El recurso solicitado no existe");
@@ -49,6 +58,32 @@ public class RestExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
     }
 
+    // Pool de conexiones agotado (spring.datasource.hikari.connection-timeout), espera de bloqueo de fila
+    // vencida (PlaceRepository.findByIdForUpdate) o base no disponible: se responde 503 de inmediato para
+    // que el cliente reintente en lugar de encolar más peticiones
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class,
+            JDBCConnectionException.class, PessimisticLockingFailureException.class})
+    public ResponseEntity<ApiResponse<Object>> handleDatabaseUnavailable(Exception ex) {
+        ApiResponse<Object> response = ApiResponse.error("Servicio temporalmente saturado. Por favor, intente de nuevo en unos segundos.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(response);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResponse<Object>> handleRateLimitExceeded(RateLimitExceededException ex) {
+        ApiResponse<Object> response = ApiResponse.error(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(ex.getRetryAfter()))
+                .body(response);
+    }
+
+    // Segundos enteros redondeados hacia arriba, mínimo 1
+    private static String retryAfterSeconds(Duration retryAfter) {
+        long seconds = (retryAfter.toMillis() + 999) / 1000;
+        return String.valueOf(Math.max(1, seconds));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<String>> generalExceptionHandler(Exception e) {
         // Log the exception for debugging
@@ -0,0 +1,182 @@
+package co.edu.uniquindio.application.index;
+
+import co.edu.uniquindio.application.model.Booking;
+import co.edu.uniquindio.application.model.BookingStatus;
+import co.edu.uniquindio.application.repositories.BookingRepository;
+import co.edu.uniquindio.application.repositories.projections.BookingSlotView;
+import co.edu.uniquindio.application.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// Índice en memoria de las franjas ocupadas (reservas PENDING/CONFIRMED) de cada alojamiento.
+// Se construye desde la tabla bookings al arrancar y se actualiza tras el commit de cada cambio.
+@Component
+@RequiredArgsConstructor
+public class AvailabilityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityIndex.class);
+
+    public static final List<BookingStatus> ACTIVE_STATUSES = List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+
+    private final BookingRepository bookingRepository;
+
+    private final Map<Long, PlaceCalendar> calendars = new ConcurrentHashMap<>();
+
+    // Reserva -> alojamiento, para poder liberar una franja conociendo solo el ID de la reserva.
+    // Las escrituras (poco frecuentes) se serializan; las lecturas no toman el candado del índice.
+    private final Map<Long, Long> bookingPlaces = new ConcurrentHashMap<>();
+
+    // Serializa las escrituras. ReentrantLock y no synchronized: rebuild consulta la base con el candado
+    // tomado y, con hilos virtuales, esperar un monitor fija el hilo portador (Java 21)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.lock();
+        try {
+            calendars.clear();
+            bookingPlaces.clear();
+
+            List<BookingSlotView> slots = bookingRepository.findSlotsByStatusIn(ACTIVE_STATUSES);
+            for (BookingSlotView slot : slots) {
+                occupy(slot.getId(), slot.getPlaceId(), slot.getCheckIn(), slot.getCheckOut());
+            }
+
+            ready = true;
+            logger.info("Índice de disponibilidad cargado: {} reservas en {} alojamientos", slots.size(), calendars.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Registra o libera la franja de la reserva según su estado, una vez confirmada la transacción
+    public void onBookingChanged(Booking booking) {
+        Long bookingId = booking.getId();
+        Long placeId = booking.getPlace().getId();
+        LocalDateTime checkIn = booking.getCheckIn();
+        LocalDateTime checkOut = booking.getCheckOut();
+        boolean active = ACTIVE_STATUSES.contains(booking.getStatus());
+
+        AfterCommit.run(() -> {
+            if (active) {
+                occupy(bookingId, placeId, checkIn, checkOut);
+            } else {
+                release(bookingId);
+            }
+        });
+    }
+
+    public void onBookingsReleased(Collection<Long> bookingIds) {
+        List<Long> ids = List.copyOf(bookingIds);
+        AfterCommit.run(() -> ids.forEach(this::release));
+    }
+
+    public boolean isAvailable(Long placeId, LocalDateTime checkIn, LocalDateTime checkOut) {
+        PlaceCalendar calendar = calendars.get(placeId);
+        return calendar == null || !calendar.overlaps(checkIn, checkOut);
+    }
+
+    public <T> List<T> filterAvailable(List<T> candidates, Function<T, Long> placeId,
+                                       LocalDateTime checkIn, LocalDateTime checkOut) {
+        List<T> available = new ArrayList<>(candidates.size());
+        for (T candidate : candidates) {
+            if (isAvailable(placeId.apply(candidate), checkIn, checkOut)) {
+                available.add(candidate);
+            }
+        }
+        return available;
+    }
+
+    void occupy(Long bookingId, Long placeId, LocalDateTime checkIn, LocalDateTime checkOut) {
+        lock.lock();
+        try {
+            Long previousPlace = bookingPlaces.put(bookingId, placeId);
+            if (previousPlace != null) {
+                calendars.computeIfPresent(previousPlace, (id, calendar) -> calendar.remove(bookingId) ? null : calendar);
+            }
+            calendars.computeIfAbsent(placeId, id -> new PlaceCalendar()).add(bookingId, checkIn, checkOut);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(Long bookingId) {
+        lock.lock();
+        try {
+            Long placeId = bookingPlaces.remove(bookingId);
+            if (placeId != null) {
+                calendars.computeIfPresent(placeId, (id, calendar) -> calendar.remove(bookingId) ? null : calendar);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Calendario de un alojamiento: franjas ordenadas por check-in
+    private static final class PlaceCalendar {
+
+        private final TreeMap<LocalDateTime, Map<Long, LocalDateTime>> byCheckIn = new TreeMap<>();
+        private final Map<Long, LocalDateTime> checkInByBooking = new HashMap<>();
+
+        // Estancia más larga registrada, para acotar el recorrido hacia atrás en overlaps
+        private Duration longestStay = Duration.ZERO;
+
+        synchronized void add(Long bookingId, LocalDateTime checkIn, LocalDateTime checkOut) {
+            remove(bookingId);
+            byCheckIn.computeIfAbsent(checkIn, k -> new HashMap<>()).put(bookingId, checkOut);
+            checkInByBooking.put(bookingId, checkIn);
+
+            Duration stay = Duration.between(checkIn, checkOut);
+            if (stay.compareTo(longestStay) > 0) {
+                longestStay = stay;
+            }
+        }
+
+        // Retorna true si el calendario quedó vacío
+        synchronized boolean remove(Long bookingId) {
+            LocalDateTime checkIn = checkInByBooking.remove(bookingId);
+            if (checkIn != null) {
+                Map<Long, LocalDateTime> slots = byCheckIn.get(checkIn);
+                slots.remove(bookingId);
+                if (slots.isEmpty()) {
+                    byCheckIn.remove(checkIn);
+                }
+            }
+            return checkInByBooking.isEmpty();
+        }
+
+        // Solapamiento de intervalos semiabiertos [checkIn, checkOut)
+        synchronized boolean overlaps(LocalDateTime checkIn, LocalDateTime checkOut) {
+            LocalDateTime earliestRelevant = checkIn.minus(longestStay);
+            for (Map.Entry<LocalDateTime, Map<Long, LocalDateTime>> entry
+                    : byCheckIn.headMap(checkOut, false).descendingMap().entrySet()) {
+                if (!entry.getKey().isAfter(earliestRelevant)) {
+                    break;
+                }
+                for (LocalDateTime bookedCheckOut : entry.getValue().values()) {
+                    if (bookedCheckOut.isAfter(checkIn)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package co.edu.uniquindio.application.index;
+
+import co.edu.uniquindio.application.model.Location;
+import co.edu.uniquindio.application.model.Place;
+import co.edu.uniquindio.application.model.Service;
+import co.edu.uniquindio.application.model.Status;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
+import co.edu.uniquindio.application.repositories.projections.PlaceLocationView;
+import co.edu.uniquindio.application.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Índice geoespacial en memoria de los alojamientos activos: rejilla de celdas de CELL_DEGREES grados.
+// Una búsqueda por radio solo recorre las celdas que cubren su caja delimitadora, por lo que su costo
+// depende de la densidad de la zona y no del número total de alojamientos.
+@Component
+@RequiredArgsConstructor
+public class PlaceGeoIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceGeoIndex.class);
+
+    public static final double MAX_RADIUS_KM = 100.0;
+
+    private static final double CELL_DEGREES = 0.05; // ~5.5 km de latitud
+    private static final int LON_CELLS = (int) Math.round(360 / CELL_DEGREES);
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.toRadians(EARTH_RADIUS_KM);
+
+    private final PlaceRepository placeRepository;
+
+    private final Map<Long, GeoPoint> points = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    // Serializa las escrituras (ver AvailabilityIndex.lock)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.lock();
+        try {
+            points.clear();
+            cells.clear();
+
+            List<PlaceLocationView> locations = placeRepository.findLocationsByStatus(Status.ACTIVE);
+            for (PlaceLocationView location : locations) {
+                put(location.getId(), location.getLatitude(), location.getLongitude(), location.getServicesMask());
+            }
+
+            ready = true;
+            logger.info("Índice geoespacial cargado: {} alojamientos en {} celdas", points.size(), cells.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Indexa o retira el alojamiento según su estado y ubicación, una vez confirmada la transacción
+    public void onPlaceChanged(Place place) {
+        Long placeId = place.getId();
+        Location location = place.getAddress() != null ? place.getAddress().getLocation() : null;
+        Double latitude = location != null ? location.getLatitude() : null;
+        Double longitude = location != null ? location.getLongitude() : null;
+        long servicesMask = Service.toMask(place.getServices());
+        boolean indexable = place.getStatus() == Status.ACTIVE && latitude != null && longitude != null;
+
+        AfterCommit.run(() -> {
+            if (indexable) {
+                put(placeId, latitude, longitude, servicesMask);
+            } else {
+                remove(placeId);
+            }
+        });
+    }
+
+    // Alojamientos a menos de radiusKm del punto, ordenados por distancia
+    public List<Hit> findWithin(double latitude, double longitude, double radiusKm, int limit) {
+        return findWithin(latitude, longitude, radiusKm, 0L, 0L, limit);
+    }
+
+    // Igual, filtrando además por servicios sobre la máscara guardada en el índice (ver Service.matches)
+    public List<Hit> findWithin(double latitude, double longitude, double radiusKm,
+                                long allServices, long anyServices, int limit) {
+        BoundingBox box = BoundingBox.around(latitude, longitude, radiusKm);
+        List<Hit> hits = new ArrayList<>();
+
+        int minLatCell = latCell(box.minLatitude());
+        int maxLatCell = latCell(box.maxLatitude());
+        int minLonCell = lonCell(box.minLongitude());
+        int lonSpan = box.spansAllLongitudes()
+                ? LON_CELLS - 1
+                : Math.floorMod(lonCell(box.maxLongitude()) - minLonCell, LON_CELLS);
+
+        for (int lat = minLatCell; lat <= maxLatCell; lat++) {
+            for (int i = 0; i <= lonSpan; i++) {
+                Set<Long> cell = cells.get(cellKey(lat, Math.floorMod(minLonCell + i, LON_CELLS)));
+                if (cell == null) {
+                    continue;
+                }
+                for (Long placeId : cell) {
+                    GeoPoint point = points.get(placeId);
+                    if (point == null || !Service.matches(point.servicesMask(), allServices, anyServices)) {
+                        continue;
+                    }
+                    double distance = distanceKm(latitude, longitude, point.latitude(), point.longitude());
+                    if (distance <= radiusKm) {
+                        hits.add(new Hit(placeId, distance));
+                    }
+                }
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm).thenComparing(Hit::placeId));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    // Distancia de círculo máximo (fórmula del haversine)
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    void put(Long placeId, double latitude, double longitude, Long servicesMask) {
+        lock.lock();
+        try {
+            remove(placeId);
+            points.put(placeId, new GeoPoint(latitude, longitude, servicesMask != null ? servicesMask : 0L));
+            cells.computeIfAbsent(cellKey(latCell(latitude), lonCell(longitude)), k -> ConcurrentHashMap.newKeySet())
+                    .add(placeId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(Long placeId) {
+        lock.lock();
+        try {
+            GeoPoint previous = points.remove(placeId);
+            if (previous != null) {
+                cells.computeIfPresent(cellKey(latCell(previous.latitude()), lonCell(previous.longitude())),
+                        (key, cell) -> cell.remove(placeId) && cell.isEmpty() ? null : cell);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static int latCell(double latitude) {
+        return (int) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    private static int lonCell(double longitude) {
+        return Math.floorMod((int) Math.floor(longitude / CELL_DEGREES), LON_CELLS);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    public record Hit(Long placeId, double distanceKm) {
+    }
+
+    private record GeoPoint(double latitude, double longitude, long servicesMask) {
+    }
+
+    // Caja delimitadora de un círculo; la longitud puede cruzar el antimeridiano (min > max)
+    public record BoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+
+        public static BoundingBox around(double latitude, double longitude, double radiusKm) {
+            double latDelta = radiusKm / KM_PER_DEGREE;
+            double minLat = Math.max(-90.0, latitude - latDelta);
+            double maxLat = Math.min(90.0, latitude + latDelta);
+
+            double cos = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+            double lonDelta = cos <= 0 ? 180.0 : radiusKm / (KM_PER_DEGREE * cos);
+            if (lonDelta >= 180.0) {
+                return new BoundingBox(minLat, maxLat, -180.0, 180.0);
+            }
+            return new BoundingBox(minLat, maxLat, normalize(longitude - lonDelta), normalize(longitude + lonDelta));
+        }
+
+        public boolean spansAllLongitudes() {
+            return minLongitude == -180.0 && maxLongitude == 180.0;
+        }
+
+        public boolean crossesAntimeridian() {
+            return minLongitude > maxLongitude;
+        }
+
+        private static double normalize(double longitude) {
+            return ((longitude + 540.0) % 360.0) - 180.0;
+        }
+    }
+}
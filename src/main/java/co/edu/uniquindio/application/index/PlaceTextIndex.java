@@ -0,0 +1,177 @@
+package co.edu.uniquindio.application.index;
+
+import co.edu.uniquindio.application.model.Place;
+import co.edu.uniquindio.application.model.Status;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
+import co.edu.uniquindio.application.repositories.projections.PlaceTextView;
+import co.edu.uniquindio.application.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Índice invertido en memoria sobre título, descripción y ciudad de los alojamientos activos.
+// Término -> (alojamiento -> peso), con más peso para el título y la ciudad que para la descripción.
+// La consulta exige todos los términos, parte de la lista de publicaciones más corta y ordena por TF-IDF.
+@Component
+@RequiredArgsConstructor
+public class PlaceTextIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceTextIndex.class);
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float CITY_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private final PlaceRepository placeRepository;
+
+    private final Map<String, Map<Long, Float>> postings = new ConcurrentHashMap<>();
+
+    // Términos de cada alojamiento, para poder retirarlo al actualizarlo
+    private final Map<Long, Set<String>> documentTerms = new ConcurrentHashMap<>();
+
+    // Serializa las escrituras (ver AvailabilityIndex.lock)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.lock();
+        try {
+            postings.clear();
+            documentTerms.clear();
+
+            List<PlaceTextView> places = placeRepository.findTextByStatus(Status.ACTIVE);
+            for (PlaceTextView place : places) {
+                put(place.getId(), place.getTitle(), place.getDescription(), place.getCity());
+            }
+
+            ready = true;
+            logger.info("Índice de texto cargado: {} alojamientos, {} términos", documentTerms.size(), postings.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Reindexa o retira el alojamiento según su estado, una vez confirmada la transacción
+    public void onPlaceChanged(Place place) {
+        Long placeId = place.getId();
+        String title = place.getTitle();
+        String description = place.getDescription();
+        String city = place.getAddress() != null ? place.getAddress().getCity() : null;
+        boolean active = place.getStatus() == Status.ACTIVE;
+
+        AfterCommit.run(() -> {
+            if (active) {
+                put(placeId, title, description, city);
+            } else {
+                remove(placeId);
+            }
+        });
+    }
+
+    // IDs de los alojamientos que contienen todos los términos de la consulta, de mayor a menor relevancia
+    public List<Long> search(String query, int limit) {
+        List<String> terms = SpanishAnalyzer.analyze(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        List<Map<Long, Float>> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Float> list = postings.get(term);
+            if (list == null) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Map::size));
+
+        int documents = Math.max(1, documentTerms.size());
+        double[] idf = lists.stream().mapToDouble(list -> Math.log(1.0 + (double) documents / list.size())).toArray();
+
+        // Montículo de los limit mejores (el de menor puntaje en la cima)
+        PriorityQueue<Scored> top = new PriorityQueue<>(Comparator.comparingDouble(Scored::score)
+                .thenComparing(Scored::placeId, Comparator.reverseOrder()));
+
+        candidates:
+        for (Map.Entry<Long, Float> entry : lists.get(0).entrySet()) {
+            Long placeId = entry.getKey();
+            double score = entry.getValue() * idf[0];
+            for (int i = 1; i < lists.size(); i++) {
+                Float weight = lists.get(i).get(placeId);
+                if (weight == null) {
+                    continue candidates;
+                }
+                score += weight * idf[i];
+            }
+
+            top.offer(new Scored(placeId, score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Long> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(top.poll().placeId());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    void put(Long placeId, String title, String description, String city) {
+        lock.lock();
+        try {
+            remove(placeId);
+
+            Map<String, Float> weights = new HashMap<>();
+            addTerms(weights, title, TITLE_WEIGHT);
+            addTerms(weights, city, CITY_WEIGHT);
+            addTerms(weights, description, DESCRIPTION_WEIGHT);
+
+            weights.forEach((term, weight) ->
+                    postings.computeIfAbsent(term, k -> new ConcurrentHashMap<>()).put(placeId, weight));
+            documentTerms.put(placeId, Set.copyOf(weights.keySet()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(Long placeId) {
+        lock.lock();
+        try {
+            Set<String> terms = documentTerms.remove(placeId);
+            if (terms != null) {
+                for (String term : terms) {
+                    postings.computeIfPresent(term, (k, list) -> {
+                        list.remove(placeId);
+                        return list.isEmpty() ? null : list;
+                    });
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void addTerms(Map<String, Float> weights, String text, float weight) {
+        for (String term : SpanishAnalyzer.analyze(text)) {
+            weights.merge(term, weight, Float::sum);
+        }
+    }
+
+    private record Scored(Long placeId, double score) {
+    }
+}
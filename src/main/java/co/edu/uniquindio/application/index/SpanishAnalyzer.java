@@ -0,0 +1,54 @@
+package co.edu.uniquindio.application.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// Análisis de texto en español para el índice de búsqueda: minúsculas, eliminación de tildes
+// (cabaña -> cabana), palabras vacías y reducción de plurales (piscinas -> piscina, hoteles -> hotel).
+// Se aplica igual al indexar y al consultar.
+public final class SpanishAnalyzer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "al", "ante", "con", "de", "del", "desde", "e", "el", "en", "entre", "es", "esta", "este",
+            "hay", "la", "las", "lo", "los", "mas", "muy", "o", "para", "por", "que", "se", "sin", "sobre",
+            "su", "sus", "un", "una", "unas", "unos", "y");
+
+    private SpanishAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        for (String token : SEPARATORS.split(folded)) {
+            if (token.isEmpty() || STOPWORDS.contains(token)) {
+                continue;
+            }
+            terms.add(stem(token));
+        }
+        return terms;
+    }
+
+    // Plurales regulares: "-es" tras consonante (lugares, hoteles) y "-s" tras vocal (lagos, piscinas)
+    static String stem(String term) {
+        int length = term.length();
+        if (length > 4 && term.endsWith("es") && "lrndzj".indexOf(term.charAt(length - 3)) >= 0) {
+            return term.substring(0, length - 2);
+        }
+        if (length > 3 && term.endsWith("s") && "aeiou".indexOf(term.charAt(length - 2)) >= 0) {
+            return term.substring(0, length - 1);
+        }
+        return term;
+    }
+}
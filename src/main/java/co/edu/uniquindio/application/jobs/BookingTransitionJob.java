@@ -0,0 +1,102 @@
+package co.edu.uniquindio.application.jobs;
+
+import co.edu.uniquindio.application.dto.BookingTransitionResult;
+import co.edu.uniquindio.application.services.BookingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.IntFunction;
+
+// Transiciones de estado de reservas por tiempo, en lotes con UPDATE por conjunto:
+// PENDING -> CANCELLED cuando vence el plazo de confirmación y CONFIRMED -> COMPLETED tras el check-out.
+// Solo una instancia ejecuta la tarea a la vez (DatabaseJobLock). Métricas: bookings.transitions
+// (reservas actualizadas), bookings.transitions.chunk (duración por lote) y bookings.transitions.skipped.
+@Component
+public class BookingTransitionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingTransitionJob.class);
+
+    static final String LOCK_NAME = "booking-transitions";
+
+    private final BookingService bookingService;
+    private final DatabaseJobLock jobLock;
+    private final MeterRegistry meterRegistry;
+    private final Duration pendingTimeout;
+    private final int chunkSize;
+    private final Duration lockLease;
+    private final Counter skippedRuns;
+
+    public BookingTransitionJob(
+            BookingService bookingService,
+            DatabaseJobLock jobLock,
+            MeterRegistry meterRegistry,
+            @Value("${app.jobs.booking-transitions.pending-timeout:24h}") Duration pendingTimeout,
+            @Value("${app.jobs.booking-transitions.chunk-size:500}") int chunkSize,
+            @Value("${app.jobs.booking-transitions.lock-lease:10m}") Duration lockLease) {
+        this.bookingService = bookingService;
+        this.jobLock = jobLock;
+        this.meterRegistry = meterRegistry;
+        this.pendingTimeout = pendingTimeout;
+        this.chunkSize = chunkSize;
+        this.lockLease = lockLease;
+        this.skippedRuns = Counter.builder("bookings.transitions.skipped")
+                .description("Ejecuciones omitidas porque otra instancia tenía el candado")
+                .register(meterRegistry);
+    }
+
+    // Retorna el total de reservas actualizadas (0 si otra instancia tiene el candado)
+    @Scheduled(cron = "${app.jobs.booking-transitions.cron:0 */5 * * * *}")
+    public int run() {
+        if (!jobLock.tryAcquire(LOCK_NAME, lockLease)) {
+            skippedRuns.increment();
+            logger.debug("Transiciones de reservas en curso en otra instancia; se omite esta ejecución");
+            return 0;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            long start = System.nanoTime();
+
+            int cancelled = drain("pending_cancelled",
+                    size -> bookingService.expirePendingBookings(now.minus(pendingTimeout), size));
+            int completed = drain("confirmed_completed",
+                    size -> bookingService.completeFinishedBookings(now, size));
+
+            long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            logger.info("Transiciones de reservas: {} canceladas, {} completadas en {} ms ({} reservas/s)",
+                    cancelled, completed, elapsedMs, (cancelled + completed) * 1000L / elapsedMs);
+            return cancelled + completed;
+        } finally {
+            jobLock.release(LOCK_NAME);
+        }
+    }
+
+    // Procesa lotes hasta encontrar uno incompleto; cada lote es una transacción independiente
+    private int drain(String transition, IntFunction<BookingTransitionResult> chunk) {
+        Counter transitioned = Counter.builder("bookings.transitions")
+                .description("Reservas actualizadas por la tarea de transiciones")
+                .tag("transition", transition)
+                .register(meterRegistry);
+        Timer chunkTimer = Timer.builder("bookings.transitions.chunk")
+                .description("Duración de cada lote de transiciones")
+                .tag("transition", transition)
+                .register(meterRegistry);
+
+        int total = 0;
+        BookingTransitionResult result;
+        do {
+            result = chunkTimer.record(() -> chunk.apply(chunkSize));
+            transitioned.increment(result.transitioned());
+            total += result.transitioned();
+        } while (result.scanned() == chunkSize);
+        return total;
+    }
+}
@@ -0,0 +1,85 @@
+package co.edu.uniquindio.application.jobs;
+
+import co.edu.uniquindio.application.model.JobLock;
+import co.edu.uniquindio.application.repositories.JobLockRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Exclusión mutua de tareas programadas entre instancias mediante la tabla job_locks.
+// El candado es un arrendamiento: si la instancia que lo tiene cae, vence tras la duración indicada.
+// Cada operación corre en su propia transacción para que el candado sea visible antes de empezar el trabajo.
+@Component
+public class DatabaseJobLock {
+
+    private final JobLockRepository jobLockRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner;
+
+    public DatabaseJobLock(JobLockRepository jobLockRepository,
+                           EntityManager entityManager,
+                           PlatformTransactionManager transactionManager) {
+        this.jobLockRepository = jobLockRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.owner = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public boolean tryAcquire(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(lease);
+
+        Integer acquired = transactionTemplate.execute(status ->
+                jobLockRepository.tryAcquire(name, owner, now, lockedUntil));
+        if (acquired != null && acquired > 0) {
+            return true;
+        }
+        if (jobLockRepository.existsById(name)) {
+            return false;
+        }
+
+        // Primera ejecución de la tarea: se crea la fila; si otra instancia se adelanta, gana ella
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                JobLock lock = new JobLock();
+                lock.setName(name);
+                lock.setLockedUntil(lockedUntil);
+                lock.setLockedBy(owner);
+                entityManager.persist(lock);
+                entityManager.flush();
+            });
+            return true;
+        } catch (PersistenceException | DataIntegrityViolationException ex) {
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        transactionTemplate.executeWithoutResult(status ->
+                jobLockRepository.release(name, owner, LocalDateTime.now()));
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException ex) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package co.edu.uniquindio.application.jobs;
+
+import co.edu.uniquindio.application.mail.EmailDispatcher;
+import co.edu.uniquindio.application.model.OutboundEmailStatus;
+import co.edu.uniquindio.application.repositories.OutboundEmailRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Reintentos de la bandeja de salida de correo y purga de los correos ya resueltos.
+// Solo una instancia la ejecuta a la vez (DatabaseJobLock); la entrega inmediata de cada correo
+// no pasa por aquí (ver EmailOutbox).
+@Component
+public class EmailOutboxRelayJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxRelayJob.class);
+
+    static final String LOCK_NAME = "email-outbox-relay";
+
+    private final EmailDispatcher emailDispatcher;
+    private final OutboundEmailRepository outboundEmailRepository;
+    private final DatabaseJobLock jobLock;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+    private final Duration lockLease;
+
+    public EmailOutboxRelayJob(
+            EmailDispatcher emailDispatcher,
+            OutboundEmailRepository outboundEmailRepository,
+            DatabaseJobLock jobLock,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.mail.outbox.batch-size:100}") int batchSize,
+            @Value("${app.mail.outbox.retention:7d}") Duration retention,
+            @Value("${app.mail.outbox.lock-lease:5m}") Duration lockLease) {
+        this.emailDispatcher = emailDispatcher;
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.jobLock = jobLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.lockLease = lockLease;
+    }
+
+    // Retorna los correos enviados en esta ejecución (0 si otra instancia tiene el candado)
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval:15s}")
+    public int run() {
+        if (!jobLock.tryAcquire(LOCK_NAME, lockLease)) {
+            return 0;
+        }
+
+        try {
+            int sent = emailDispatcher.deliverDue(batchSize);
+
+            Integer purged = transactionTemplate.execute(status -> outboundEmailRepository.deleteByStatusInAndCreatedAtBefore(
+                    List.of(OutboundEmailStatus.SENT, OutboundEmailStatus.FAILED), LocalDateTime.now().minus(retention)));
+
+            if (sent > 0 || (purged != null && purged > 0)) {
+                logger.info("Bandeja de salida: {} correos reintentados con éxito, {} purgados", sent, purged);
+            }
+            return sent;
+        } finally {
+            jobLock.release(LOCK_NAME);
+        }
+    }
+}
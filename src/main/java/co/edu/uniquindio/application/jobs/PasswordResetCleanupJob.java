@@ -0,0 +1,33 @@
+package co.edu.uniquindio.application.jobs;
+
+import co.edu.uniquindio.application.model.PasswordResetCode;
+import co.edu.uniquindio.application.repositories.PasswordResetCodeRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// Barrido periódico de los códigos de restablecimiento vencidos, fuera de las peticiones.
+// Es idempotente, así que no necesita candado entre instancias.
+@Component
+@RequiredArgsConstructor
+public class PasswordResetCleanupJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordResetCleanupJob.class);
+
+    private final PasswordResetCodeRepository passwordResetCodeRepository;
+
+    @Scheduled(cron = "${app.jobs.password-reset-cleanup.cron:0 */10 * * * *}")
+    @Transactional
+    public int run() {
+        int deleted = passwordResetCodeRepository.deleteExpiredCodes(LocalDateTime.now().minus(PasswordResetCode.TTL));
+        if (deleted > 0) {
+            logger.info("Códigos de restablecimiento vencidos eliminados: {}", deleted);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,31 @@
+package co.edu.uniquindio.application.jobs;
+
+import co.edu.uniquindio.application.cache.PlaceResponseCache;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// Recalcula en bloque ratingSum/ratingCount de todos los alojamientos desde la tabla reviews,
+// corrigiendo cualquier desviación de los agregados incrementales.
+@Component
+@RequiredArgsConstructor
+public class RatingAggregateRepairJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RatingAggregateRepairJob.class);
+
+    private final PlaceRepository placeRepository;
+    private final PlaceResponseCache placeResponseCache;
+
+    @Scheduled(cron = "${app.jobs.rating-repair.cron:0 30 3 * * *}")
+    @Transactional
+    public int repair() {
+        int updated = placeRepository.recomputeRatingAggregates();
+        placeResponseCache.evictAll();
+        logger.info("Agregados de calificación recalculados para {} alojamientos", updated);
+        return updated;
+    }
+}
@@ -0,0 +1,140 @@
+package co.edu.uniquindio.application.mail;
+
+import co.edu.uniquindio.application.model.OutboundEmail;
+import co.edu.uniquindio.application.model.OutboundEmailStatus;
+import co.edu.uniquindio.application.repositories.OutboundEmailRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+// Entrega los correos de la bandeja de salida a través del EmailTransport configurado.
+// El transporte se invoca sin transacción abierta, para no retener una conexión del pool durante la E/S.
+// Todo intento, inmediato o del relay, reclama antes la fila con un arriendo (claim) y solo guarda su
+// resultado si conserva ese arriendo, así un envío lento no se duplica ni pisa el intento de otro proceso.
+// Un fallo reprograma el correo con espera exponencial (retry-base * 2^(intento-1), hasta retry-max);
+// tras max-attempts queda FAILED. Métricas: mail.outbox.deliveries (result=sent|retry|failed|lease_lost).
+@Component
+public class EmailDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailDispatcher.class);
+
+    private final OutboundEmailRepository outboundEmailRepository;
+    private final EmailTransport emailTransport;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final Duration retryBase;
+    private final Duration retryMax;
+    private final Duration attemptLease;
+
+    public EmailDispatcher(OutboundEmailRepository outboundEmailRepository,
+                           EmailTransport emailTransport,
+                           MeterRegistry meterRegistry,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.mail.outbox.max-attempts:5}") int maxAttempts,
+                           @Value("${app.mail.outbox.retry-base:30s}") Duration retryBase,
+                           @Value("${app.mail.outbox.retry-max:30m}") Duration retryMax,
+                           @Value("${app.mail.outbox.attempt-lease:1m}") Duration attemptLease) {
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.emailTransport = emailTransport;
+        this.meterRegistry = meterRegistry;
+        // Transacciones propias y cortas: la entrega inmediata corre tras el commit de la petición, donde una
+        // transacción REQUIRED se uniría a la ya confirmada y sus escrituras se perderían
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAttempts = maxAttempts;
+        this.retryBase = retryBase;
+        this.retryMax = retryMax;
+        this.attemptLease = attemptLease;
+    }
+
+    // Primer intento, fuera del hilo de la petición
+    @Async
+    public void deliverAsync(Long id) {
+        deliver(id);
+    }
+
+    // Reintentos vencidos (y primeros intentos que la entrega inmediata no tomó). Retorna los enviados
+    public int deliverDue(int batchSize) {
+        List<Long> due = outboundEmailRepository.findDueIds(OutboundEmailStatus.PENDING, LocalDateTime.now(),
+                Limit.of(batchSize));
+
+        int sent = 0;
+        for (Long id : due) {
+            if (deliver(id)) {
+                sent++;
+            }
+        }
+        return sent;
+    }
+
+    // Retorna true si el correo quedó enviado; false también si otro proceso ya tenía tomado el intento
+    public boolean deliver(Long id) {
+        // Reclamo y lectura en transacción de escritura: van al primario. Un findById de solo lectura iría a
+        // la réplica (el hilo asíncrono no tiene usuario, no le aplica ReadYourWritesWindow) y justo tras el
+        // commit podría no encontrar la fila todavía. El arriendo se trunca a milisegundos para compararlo
+        // con el valor guardado en completeAttempt
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(attemptLease).truncatedTo(ChronoUnit.MILLIS);
+        OutboundEmail email = transactionTemplate.execute(status ->
+                outboundEmailRepository.claim(id, OutboundEmailStatus.PENDING, now, leaseUntil) > 0
+                        ? outboundEmailRepository.findById(id).orElse(null)
+                        : null);
+        if (email == null) {
+            logger.debug("Correo {} no disponible para entrega (enviado o tomado por otro intento)", id);
+            return false;
+        }
+
+        email.setAttempts(email.getAttempts() + 1);
+        String result;
+        try {
+            emailTransport.send(email);
+            email.setStatus(OutboundEmailStatus.SENT);
+            email.setSentAt(LocalDateTime.now());
+            email.setLastError(null);
+            result = "sent";
+        } catch (Exception ex) {
+            email.setLastError(truncate(ex.getClass().getSimpleName() + ": " + ex.getMessage()));
+            if (email.getAttempts() >= maxAttempts) {
+                email.setStatus(OutboundEmailStatus.FAILED);
+                result = "failed";
+                logger.warn("Correo {} descartado tras {} intentos: {}", id, email.getAttempts(), email.getLastError());
+            } else {
+                email.setNextAttemptAt(LocalDateTime.now().plus(backoff(email.getAttempts())));
+                result = "retry";
+                logger.debug("Correo {} falló (intento {}), se reintenta: {}", id, email.getAttempts(), email.getLastError());
+            }
+        }
+
+        Integer updated = transactionTemplate.execute(status -> outboundEmailRepository.completeAttempt(
+                id, OutboundEmailStatus.PENDING, leaseUntil, email.getStatus(), email.getAttempts(),
+                email.getNextAttemptAt(), email.getSentAt(), email.getLastError()));
+        if (updated == null || updated == 0) {
+            logger.warn("El arriendo del correo {} venció durante el envío; se descarta el resultado ({})", id, result);
+            result = "lease_lost";
+        }
+        meterRegistry.counter("mail.outbox.deliveries", "result", result).increment();
+        return "sent".equals(result);
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = retryBase.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(retryMax) > 0 ? retryMax : delay;
+    }
+
+    private static String truncate(String message) {
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
@@ -0,0 +1,92 @@
+package co.edu.uniquindio.application.mail;
+
+import co.edu.uniquindio.application.exceptions.RateLimitExceededException;
+import co.edu.uniquindio.application.model.OutboundEmail;
+import co.edu.uniquindio.application.repositories.OutboundEmailRepository;
+import co.edu.uniquindio.application.transaction.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+// Bandeja de salida: guarda el correo en la transacción de la petición y, tras el commit, pide su entrega
+// asíncrona. La petición no espera al transporte; si la entrega inmediata no llega a ocurrir (caída,
+// error del transporte) la retoma EmailOutboxRelayJob. Ambos reclaman la fila antes de enviar (EmailDispatcher).
+// Límite por destinatario: como máximo max-per-window correos por ventana (en memoria, por instancia).
+// Quien envía debe llamar a reserve antes de tocar la base de datos, para que una ráfaga rechazada no cueste
+// escrituras; el cupo solo se consume si la transacción se confirma.
+@Component
+public class EmailOutbox {
+
+    // Ventana fija que empieza con el primer correo aceptado
+    private record Window(Instant start, int count) {
+    }
+
+    private final OutboundEmailRepository outboundEmailRepository;
+    private final EmailDispatcher emailDispatcher;
+    private final Duration rateLimitWindow;
+    private final int maxPerWindow;
+    private final Cache<String, Window> windows;
+
+    public EmailOutbox(OutboundEmailRepository outboundEmailRepository,
+                       EmailDispatcher emailDispatcher,
+                       @Value("${app.mail.rate-limit.window:15m}") Duration rateLimitWindow,
+                       @Value("${app.mail.rate-limit.max-per-window:3}") int maxPerWindow) {
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.emailDispatcher = emailDispatcher;
+        this.rateLimitWindow = rateLimitWindow;
+        this.maxPerWindow = maxPerWindow;
+        // Solo limpia entradas viejas: la vigencia de la ventana se decide por su inicio
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(rateLimitWindow)
+                .build();
+    }
+
+    // Reserva un envío para el destinatario o lanza RateLimitExceededException con el tiempo que falta
+    // para que se abra la ventana siguiente. Si la transacción en curso se revierte, el cupo se devuelve
+    public void reserve(String recipient) {
+        String key = recipient.trim().toLowerCase(Locale.ROOT);
+        Instant now = Instant.now();
+        Window[] rejected = new Window[1];
+        Window reserved = windows.asMap().compute(key, (k, current) -> {
+            if (current == null || !now.isBefore(current.start().plus(rateLimitWindow))) {
+                return new Window(now, 1);
+            }
+            if (current.count() >= maxPerWindow) {
+                rejected[0] = current;
+                return current;
+            }
+            return new Window(current.start(), current.count() + 1);
+        });
+
+        if (rejected[0] != null) {
+            throw new RateLimitExceededException("Demasiadas solicitudes para este email. Intenta de nuevo más tarde.",
+                    Duration.between(now, rejected[0].start().plus(rateLimitWindow)));
+        }
+        AfterCommit.onRollback(() -> windows.asMap().computeIfPresent(key, (k, current) ->
+                current.start().equals(reserved.start()) ? new Window(current.start(), current.count() - 1) : current));
+    }
+
+    // No aplica el límite por destinatario: se llama después de reserve
+    public OutboundEmail enqueue(String recipient, String subject, String body) {
+        LocalDateTime now = LocalDateTime.now();
+        OutboundEmail email = new OutboundEmail();
+        email.setRecipient(recipient);
+        email.setSubject(subject);
+        email.setBody(body);
+        email.setCreatedAt(now);
+        // Vence ya: la entrega inmediata lo reclama como el relay, y si no llega a ocurrir lo toma el relay
+        email.setNextAttemptAt(now);
+        OutboundEmail saved = outboundEmailRepository.save(email);
+
+        Long id = saved.getId();
+        AfterCommit.run(() -> emailDispatcher.deliverAsync(id));
+        return saved;
+    }
+}
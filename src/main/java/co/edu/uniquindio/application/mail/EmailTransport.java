@@ -0,0 +1,10 @@
+package co.edu.uniquindio.application.mail;
+
+import co.edu.uniquindio.application.model.OutboundEmail;
+
+// Transporte de salida de la bandeja de correo (app.mail.transport). Una excepción cuenta como
+// intento fallido y el correo se reintenta con espera exponencial (ver EmailDispatcher).
+public interface EmailTransport {
+
+    void send(OutboundEmail email) throws Exception;
+}
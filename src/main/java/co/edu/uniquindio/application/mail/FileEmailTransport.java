@@ -0,0 +1,42 @@
+package co.edu.uniquindio.application.mail;
+
+import co.edu.uniquindio.application.model.OutboundEmail;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.format.DateTimeFormatter;
+
+// Transporte local por defecto: un archivo .eml por correo en app.mail.file.directory.
+// Se escribe a un temporal y se renombra, para que quien lea el directorio nunca vea un correo a medias.
+@Component
+@ConditionalOnProperty(name = "app.mail.transport", havingValue = "file", matchIfMissing = true)
+public class FileEmailTransport implements EmailTransport {
+
+    private final Path directory;
+
+    public FileEmailTransport(@Value("${app.mail.file.directory:build/mail}") Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public void send(OutboundEmail email) throws IOException {
+        Files.createDirectories(directory);
+        String message = "To: " + email.getRecipient() + "\r\n" +
+                "Subject: " + email.getSubject() + "\r\n" +
+                "Date: " + email.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "\r\n" +
+                "Content-Type: text/plain; charset=UTF-8\r\n" +
+                "\r\n" +
+                email.getBody() + "\r\n";
+
+        Path target = directory.resolve("email-" + email.getId() + ".eml");
+        Path temp = Files.createTempFile(directory, "email-" + email.getId(), ".tmp");
+        Files.writeString(temp, message, StandardCharsets.UTF_8);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
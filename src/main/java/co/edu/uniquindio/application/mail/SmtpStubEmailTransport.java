@@ -0,0 +1,24 @@
+package co.edu.uniquindio.application.mail;
+
+import co.edu.uniquindio.application.model.OutboundEmail;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Simulación de SMTP para desarrollo: registra la conversación (MAIL FROM / RCPT TO / DATA) en el log
+// en lugar de conectarse a un servidor. Se reemplaza por un transporte real sin tocar la bandeja de salida.
+@Component
+@ConditionalOnProperty(name = "app.mail.transport", havingValue = "smtp-stub")
+public class SmtpStubEmailTransport implements EmailTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmtpStubEmailTransport.class);
+
+    private static final String SENDER = "no-reply@alojamientos.com";
+
+    @Override
+    public void send(OutboundEmail email) {
+        logger.info("SMTP stub\nMAIL FROM:<{}>\nRCPT TO:<{}>\nDATA\nSubject: {}\n\n{}\n.",
+                SENDER, email.getRecipient(), email.getSubject(), email.getBody());
+    }
+}
@@ -0,0 +1,165 @@
+package co.edu.uniquindio.application.mappers;
+
+import co.edu.uniquindio.application.dto.BookingResponse;
+import co.edu.uniquindio.application.dto.PlaceResponse;
+import co.edu.uniquindio.application.dto.ReviewResponse;
+import co.edu.uniquindio.application.dto.UserResponse;
+import co.edu.uniquindio.application.repositories.projections.BookingRowView;
+import co.edu.uniquindio.application.repositories.projections.PlaceRowView;
+import co.edu.uniquindio.application.repositories.projections.ReviewRowView;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+// Respuestas de los listados a partir de las filas proyectadas (ver RowColumns).
+// Las imágenes y servicios de los alojamientos se completan aparte, por lotes.
+@Mapper(componentModel = "spring")
+public interface ListingMapper {
+
+    @Mapping(target = "address.address", source = "street")
+    @Mapping(target = "address.city", source = "city")
+    @Mapping(target = "address.location.latitude", source = "latitude")
+    @Mapping(target = "address.location.longitude", source = "longitude")
+    @Mapping(target = "reviewCount", source = "ratingCount")
+    @Mapping(target = "host.id", source = "hostId")
+    @Mapping(target = "host.name", source = "hostName")
+    @Mapping(target = "host.email", source = "hostEmail")
+    @Mapping(target = "host.dateBirth", source = "hostDateBirth")
+    @Mapping(target = "host.phone", source = "hostPhone")
+    @Mapping(target = "host.photoUrl", source = "hostPhotoUrl")
+    @Mapping(target = "host.role", source = "hostRole")
+    @Mapping(target = "host.status", source = "hostStatus")
+    @Mapping(target = "host.isHost", source = "hostIsHost")
+    @Mapping(target = "host.createdAt", source = "hostCreatedAt")
+    @Mapping(target = "host.hostProfile.id", source = "hostProfileId")
+    @Mapping(target = "host.hostProfile.legalDocument", source = "hostLegalDocument")
+    @Mapping(target = "host.hostProfile.aboutMe", source = "hostAboutMe")
+    @Mapping(target = "images", ignore = true)
+    @Mapping(target = "services", ignore = true)
+    PlaceResponse toResponse(PlaceRowView row);
+
+    @Mapping(target = "guest.id", source = "guestId")
+    @Mapping(target = "guest.name", source = "guestName")
+    @Mapping(target = "guest.email", source = "guestEmail")
+    @Mapping(target = "guest.dateBirth", source = "guestDateBirth")
+    @Mapping(target = "guest.phone", source = "guestPhone")
+    @Mapping(target = "guest.photoUrl", source = "guestPhotoUrl")
+    @Mapping(target = "guest.role", source = "guestRole")
+    @Mapping(target = "guest.status", source = "guestStatus")
+    @Mapping(target = "guest.isHost", source = "guestIsHost")
+    @Mapping(target = "guest.createdAt", source = "guestCreatedAt")
+    @Mapping(target = "guest.hostProfile.id", source = "guestProfileId")
+    @Mapping(target = "guest.hostProfile.legalDocument", source = "guestLegalDocument")
+    @Mapping(target = "guest.hostProfile.aboutMe", source = "guestAboutMe")
+    @Mapping(target = "place.id", source = "placeId")
+    @Mapping(target = "place.title", source = "placeTitle")
+    @Mapping(target = "place.description", source = "placeDescription")
+    @Mapping(target = "place.address.address", source = "placeStreet")
+    @Mapping(target = "place.address.city", source = "placeCity")
+    @Mapping(target = "place.address.location.latitude", source = "placeLatitude")
+    @Mapping(target = "place.address.location.longitude", source = "placeLongitude")
+    @Mapping(target = "place.nightlyPrice", source = "placeNightlyPrice")
+    @Mapping(target = "place.maxGuests", source = "placeMaxGuests")
+    @Mapping(target = "place.status", source = "placeStatus")
+    @Mapping(target = "place.createdAt", source = "placeCreatedAt")
+    @Mapping(target = "place.reviewCount", source = "placeRatingCount")
+    @Mapping(target = "place.host.id", source = "hostId")
+    @Mapping(target = "place.host.name", source = "hostName")
+    @Mapping(target = "place.host.email", source = "hostEmail")
+    @Mapping(target = "place.host.dateBirth", source = "hostDateBirth")
+    @Mapping(target = "place.host.phone", source = "hostPhone")
+    @Mapping(target = "place.host.photoUrl", source = "hostPhotoUrl")
+    @Mapping(target = "place.host.role", source = "hostRole")
+    @Mapping(target = "place.host.status", source = "hostStatus")
+    @Mapping(target = "place.host.isHost", source = "hostIsHost")
+    @Mapping(target = "place.host.createdAt", source = "hostCreatedAt")
+    @Mapping(target = "place.host.hostProfile.id", source = "hostProfileId")
+    @Mapping(target = "place.host.hostProfile.legalDocument", source = "hostLegalDocument")
+    @Mapping(target = "place.host.hostProfile.aboutMe", source = "hostAboutMe")
+    @Mapping(target = "place.images", ignore = true)
+    @Mapping(target = "place.services", ignore = true)
+    BookingResponse toResponse(BookingRowView row);
+
+    @Mapping(target = "reply.message", source = "replyMessage")
+    @Mapping(target = "reply.repliedAt", source = "repliedAt")
+    @Mapping(target = "user.id", source = "userId")
+    @Mapping(target = "user.name", source = "userName")
+    @Mapping(target = "user.email", source = "userEmail")
+    @Mapping(target = "user.dateBirth", source = "userDateBirth")
+    @Mapping(target = "user.phone", source = "userPhone")
+    @Mapping(target = "user.photoUrl", source = "userPhotoUrl")
+    @Mapping(target = "user.role", source = "userRole")
+    @Mapping(target = "user.status", source = "userStatus")
+    @Mapping(target = "user.isHost", source = "userIsHost")
+    @Mapping(target = "user.createdAt", source = "userCreatedAt")
+    @Mapping(target = "user.hostProfile.id", source = "userProfileId")
+    @Mapping(target = "user.hostProfile.legalDocument", source = "userLegalDocument")
+    @Mapping(target = "user.hostProfile.aboutMe", source = "userAboutMe")
+    @Mapping(target = "place.id", source = "placeId")
+    @Mapping(target = "place.title", source = "placeTitle")
+    @Mapping(target = "place.description", source = "placeDescription")
+    @Mapping(target = "place.address.address", source = "placeStreet")
+    @Mapping(target = "place.address.city", source = "placeCity")
+    @Mapping(target = "place.address.location.latitude", source = "placeLatitude")
+    @Mapping(target = "place.address.location.longitude", source = "placeLongitude")
+    @Mapping(target = "place.nightlyPrice", source = "placeNightlyPrice")
+    @Mapping(target = "place.maxGuests", source = "placeMaxGuests")
+    @Mapping(target = "place.status", source = "placeStatus")
+    @Mapping(target = "place.createdAt", source = "placeCreatedAt")
+    @Mapping(target = "place.reviewCount", source = "placeRatingCount")
+    @Mapping(target = "place.host.id", source = "hostId")
+    @Mapping(target = "place.host.name", source = "hostName")
+    @Mapping(target = "place.host.email", source = "hostEmail")
+    @Mapping(target = "place.host.dateBirth", source = "hostDateBirth")
+    @Mapping(target = "place.host.phone", source = "hostPhone")
+    @Mapping(target = "place.host.photoUrl", source = "hostPhotoUrl")
+    @Mapping(target = "place.host.role", source = "hostRole")
+    @Mapping(target = "place.host.status", source = "hostStatus")
+    @Mapping(target = "place.host.isHost", source = "hostIsHost")
+    @Mapping(target = "place.host.createdAt", source = "hostCreatedAt")
+    @Mapping(target = "place.host.hostProfile.id", source = "hostProfileId")
+    @Mapping(target = "place.host.hostProfile.legalDocument", source = "hostLegalDocument")
+    @Mapping(target = "place.host.hostProfile.aboutMe", source = "hostAboutMe")
+    @Mapping(target = "place.images", ignore = true)
+    @Mapping(target = "place.services", ignore = true)
+    ReviewResponse toResponse(ReviewRowView row);
+
+    @AfterMapping
+    default void completePlace(PlaceRowView row, @MappingTarget PlaceResponse response) {
+        response.setAverageRating(averageRating(row.getRatingSum(), row.getRatingCount()));
+        clearEmptyProfile(response.getHost(), row.getHostProfileId());
+    }
+
+    @AfterMapping
+    default void completeBooking(BookingRowView row, @MappingTarget BookingResponse response) {
+        response.getPlace().setAverageRating(averageRating(row.getPlaceRatingSum(), row.getPlaceRatingCount()));
+        clearEmptyProfile(response.getGuest(), row.getGuestProfileId());
+        clearEmptyProfile(response.getPlace().getHost(), row.getHostProfileId());
+    }
+
+    @AfterMapping
+    default void completeReview(ReviewRowView row, @MappingTarget ReviewResponse response) {
+        response.getPlace().setAverageRating(averageRating(row.getPlaceRatingSum(), row.getPlaceRatingCount()));
+        clearEmptyProfile(response.getUser(), row.getUserProfileId());
+        clearEmptyProfile(response.getPlace().getHost(), row.getHostProfileId());
+        if (row.getReplyMessage() == null && row.getRepliedAt() == null) {
+            response.setReply(null);
+        }
+    }
+
+    // Mismo cálculo que Place.getAverageRating
+    private static Double averageRating(Long ratingSum, Long ratingCount) {
+        if (ratingCount == null || ratingCount == 0) {
+            return 0.0;
+        }
+        return ratingSum.doubleValue() / ratingCount;
+    }
+
+    // El LEFT JOIN deja columnas nulas cuando el usuario no tiene perfil de anfitrión
+    private static void clearEmptyProfile(UserResponse user, Long profileId) {
+        if (profileId == null) {
+            user.setHostProfile(null);
+        }
+    }
+}
@@ -19,10 +19,12 @@ public interface PlaceMapper {
     @Mapping(target = "host", ignore = true)
     @Mapping(target = "bookings", ignore = true)
     @Mapping(target = "reviews", ignore = true)
+    @Mapping(target = "ratingSum", ignore = true)
+    @Mapping(target = "ratingCount", ignore = true)
     Place toEntity(PlaceCreateRequest request);
 
-    @Mapping(target = "averageRating", ignore = true)
-    @Mapping(target = "reviewCount", ignore = true)
+    // Calificación tomada de los agregados desnormalizados del alojamiento
+    @Mapping(target = "reviewCount", source = "ratingCount")
     PlaceResponse toResponse(Place place);
 
     @Mapping(target = "id", ignore = true)
@@ -32,6 +34,8 @@ public interface PlaceMapper {
     @Mapping(target = "bookings", ignore = true)
     @Mapping(target = "reviews", ignore = true)
     @Mapping(target = "images", ignore = true)
+    @Mapping(target = "ratingSum", ignore = true)
+    @Mapping(target = "ratingCount", ignore = true)
     void updateEntityFromRequest(PlaceUpdateRequest request, @MappingTarget Place place);
 
     // Método para calcular averageRating y reviewCount
@@ -2,14 +2,37 @@ package co.edu.uniquindio.application.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_guest_created", columnList = "guest_id, created_at, id"),
+        @Index(name = "idx_bookings_created", columnList = "created_at, id"),
+        @Index(name = "idx_bookings_place_status_dates", columnList = "place_id, status, check_in, check_out"),
+        @Index(name = "idx_bookings_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_bookings_status_checkout", columnList = "status, check_out")
+})
+@NamedEntityGraph(name = Booking.WITH_GUEST_AND_PLACE,
+        attributeNodes = {
+                @NamedAttributeNode(value = "guest", subgraph = "user"),
+                @NamedAttributeNode(value = "place", subgraph = "place")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("hostProfile")),
+                @NamedSubgraph(name = "place", attributeNodes = @NamedAttributeNode(value = "host", subgraph = "user"))
+        })
 @Data
 public class Booking {
+
+    // Plan de carga de BookingResponse: huésped y alojamiento con su anfitrión en la misma consulta
+    public static final String WITH_GUEST_AND_PLACE = "Booking.withGuestAndPlace";
+
+    // Secuencia por bloques para permitir INSERT en lotes (ver Place.id)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
+    @SequenceGenerator(name = "booking_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -32,11 +55,15 @@ public class Booking {
     private LocalDateTime createdAt = LocalDateTime.now();
 
     // Relaciones
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "guest_id", nullable = false)
     private User guest;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "place_id", nullable = false)
     private Place place;
 }
@@ -37,7 +37,7 @@ public class Coupon {
     }
 
     // Opcional: si los cupones pertenecen a un anfitrión
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "host_id")
     private User host;
 }
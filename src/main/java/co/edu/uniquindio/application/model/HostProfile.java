@@ -2,11 +2,21 @@ package co.edu.uniquindio.application.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "host_profiles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HostProfile.CACHE_REGION)
 @Data
 public class HostProfile {
+
+    // Región de la caché de segundo nivel (ver Place.CACHE_REGION)
+    public static final String CACHE_REGION = "hostProfiles";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -16,7 +26,9 @@ public class HostProfile {
 
     private String aboutMe;
 
-    @OneToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false, unique = true)
     private User user;
 }
@@ -0,0 +1,22 @@
+package co.edu.uniquindio.application.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+// Candado de tarea programada compartido entre instancias: una fila por tarea,
+// tomada por la instancia que logra extender lockedUntil
+@Entity
+@Table(name = "job_locks")
+@Data
+public class JobLock {
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(nullable = false)
+    private String lockedBy;
+}
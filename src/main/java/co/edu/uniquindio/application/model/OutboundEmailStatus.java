@@ -0,0 +1,7 @@
+package co.edu.uniquindio.application.model;
+
+public enum OutboundEmailStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -2,12 +2,19 @@ package co.edu.uniquindio.application.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "password_reset_codes")
 @Data
 public class PasswordResetCode {
+
+    // Vigencia de un código desde su creación
+    public static final Duration TTL = Duration.ofMinutes(15);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -18,7 +25,9 @@ public class PasswordResetCode {
     @Column(nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 }
@@ -2,16 +2,43 @@ package co.edu.uniquindio.application.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "places")
+@Table(name = "places", indexes = {
+        @Index(name = "idx_places_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_places_host_created", columnList = "host_id, created_at, id")
+})
+@NamedEntityGraph(name = Place.WITH_HOST,
+        attributeNodes = @NamedAttributeNode(value = "host", subgraph = "host"),
+        subgraphs = @NamedSubgraph(name = "host", attributeNodes = @NamedAttributeNode("hostProfile")))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Place.CACHE_REGION)
 @Data
 public class Place {
+
+    // Plan de carga de PlaceResponse: anfitrión (y su perfil) por JOIN; imágenes y servicios
+    // se cargan por lotes (default_batch_fetch_size) para no multiplicar filas ni paginar en memoria
+    public static final String WITH_HOST = "Place.withHost";
+
+    // Regiones de la caché de segundo nivel (tamaño y expiración en application.conf). Las escrituras por
+    // entidad actualizan solo su entrada, igual que los agregados de calificación (PlaceRatingRepositoryImpl);
+    // solo la reparación nocturna en bloque (recomputeRatingAggregates) invalida la región completa
+    public static final String CACHE_REGION = "places";
+    public static final String IMAGES_CACHE_REGION = "placeImages";
+    public static final String SERVICES_CACHE_REGION = "placeServices";
+
+    // Secuencia con asignación por bloques (optimizador pooled): los INSERT no necesitan el ID
+    // generado por la base, así que Hibernate puede agruparlos en lotes JDBC (ver hibernate.jdbc.batch_size)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "place_seq")
+    @SequenceGenerator(name = "place_seq", sequenceName = "places_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -30,17 +57,27 @@ public class Place {
     @Column(nullable = false)
     private Integer maxGuests;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = IMAGES_CACHE_REGION)
     @CollectionTable(name = "place_images", joinColumns = @JoinColumn(name = "place_id"))
     @Column(name = "image_url", columnDefinition = "TEXT")
     private List<String> images = new ArrayList<>();
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SERVICES_CACHE_REGION)
     @Enumerated(EnumType.STRING)
     @CollectionTable(name = "place_services", joinColumns = @JoinColumn(name = "place_id"))
     @Column(name = "service")
     private List<Service> services = new ArrayList<>();
 
+    // Copia de services como máscara de bits (ver Service.mask) para filtrar sin JOIN sobre place_services
+    @Column(name = "services_mask", nullable = false)
+    private Long servicesMask = 0L;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private Status status = Status.ACTIVE;
@@ -48,14 +85,38 @@ public class Place {
     @Column(nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // Agregados de calificación mantenidos por ReviewServiceImpl con UPDATE atómicos.
+    // No son actualizables desde la entidad para que un save() no pise cambios concurrentes.
+    @Column(nullable = false, updatable = false)
+    private Long ratingSum = 0L;
+
+    @Column(nullable = false, updatable = false)
+    private Long ratingCount = 0L;
+
+    // Revisión del conjunto de reseñas (y respuestas): se incrementa con cada escritura sobre ellas,
+    // en el mismo UPDATE atómico que los agregados. Junto con version forma el ETag del alojamiento.
+    @Column(nullable = false, updatable = false)
+    private Long reviewRevision = 0L;
+
+    // Versión optimista: Hibernate la incrementa con cada cambio del alojamiento o de sus colecciones
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Relaciones
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "host_id", nullable = false)
     private User host;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "place", cascade = CascadeType.ALL)
     private List<Booking> bookings = new ArrayList<>();
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "place", cascade = CascadeType.ALL)
     private List<Review> reviews = new ArrayList<>();
 
@@ -82,6 +143,34 @@ public class Place {
         return images != null && !images.isEmpty() ? images.get(0) : null;
     }
 
+    // Calificación promedio a partir de los agregados
+    public Double getAverageRating() {
+        if (ratingCount == null || ratingCount == 0) {
+            return 0.0;
+        }
+        return ratingSum.doubleValue() / ratingCount;
+    }
+
+    // Refleja en memoria un cambio ya aplicado en base de datos
+    public void applyRatingDelta(long sumDelta, long countDelta) {
+        this.ratingSum = (ratingSum != null ? ratingSum : 0L) + sumDelta;
+        this.ratingCount = (ratingCount != null ? ratingCount : 0L) + countDelta;
+        this.reviewRevision = (reviewRevision != null ? reviewRevision : 0L) + 1;
+    }
+
+    public void setServices(List<Service> services) {
+        this.services = services;
+        syncServicesMask();
+    }
+
+    // Se recalcula también al insertar o actualizar la fila. Si solo se modifica la colección en sitio
+    // (p. ej. desde MapStruct) hay que volver a pasarla por setServices, como hace PlaceServiceImpl.updatePlace
+    @PrePersist
+    @PreUpdate
+    public void syncServicesMask() {
+        this.servicesMask = Service.toMask(services);
+    }
+
     // Método para cambiar la imagen principal
     public void setMainImage(int index) {
         if (images != null && index >= 0 && index < images.size()) {
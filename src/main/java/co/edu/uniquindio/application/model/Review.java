@@ -2,14 +2,34 @@ package co.edu.uniquindio.application.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_place_created", columnList = "place_id, created_at, id"),
+        @Index(name = "idx_reviews_user_created", columnList = "user_id, created_at, id")
+})
+@NamedEntityGraph(name = Review.WITH_USER_AND_PLACE,
+        attributeNodes = {
+                @NamedAttributeNode(value = "user", subgraph = "user"),
+                @NamedAttributeNode(value = "place", subgraph = "place")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("hostProfile")),
+                @NamedSubgraph(name = "place", attributeNodes = @NamedAttributeNode(value = "host", subgraph = "user"))
+        })
 @Data
 public class Review {
+
+    // Plan de carga de ReviewResponse: autor y alojamiento con su anfitrión en la misma consulta
+    public static final String WITH_USER_AND_PLACE = "Review.withUserAndPlace";
+
+    // Secuencia por bloques para permitir INSERT en lotes (ver Place.id)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_seq")
+    @SequenceGenerator(name = "review_seq", sequenceName = "reviews_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -25,11 +45,15 @@ public class Review {
     private LocalDateTime createdAt = LocalDateTime.now();
 
     // Relaciones
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "place_id", nullable = false)
     private Place place;
 }
@@ -1,9 +1,39 @@
 package co.edu.uniquindio.application.model;
 
+import java.util.Collection;
+
 public enum Service {
-    WIFI,
-    POOL,
-    BREAKFAST,
-    AIR_CONDITIONING,
-    PARKING
+    WIFI(0),
+    POOL(1),
+    BREAKFAST(2),
+    AIR_CONDITIONING(3),
+    PARKING(4);
+
+    // Posición del servicio en places.services_mask: está persistida, no reutilizar ni reasignar
+    private final int bit;
+
+    Service(int bit) {
+        this.bit = bit;
+    }
+
+    public long mask() {
+        return 1L << bit;
+    }
+
+    public static long toMask(Collection<Service> services) {
+        long mask = 0L;
+        if (services != null) {
+            for (Service service : services) {
+                if (service != null) {
+                    mask |= service.mask();
+                }
+            }
+        }
+        return mask;
+    }
+
+    // Filtro de servicios: todos los de allOf y, si se indica, al menos uno de anyOf
+    public static boolean matches(long servicesMask, long allOf, long anyOf) {
+        return (servicesMask & allOf) == allOf && (anyOf == 0 || (servicesMask & anyOf) != 0);
+    }
 }
@@ -2,6 +2,10 @@ package co.edu.uniquindio.application.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,11 +19,18 @@ import java.util.List;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 @Data
 public class User implements UserDetails {
 
+    // Región de la caché de segundo nivel (ver Place.CACHE_REGION)
+    public static final String CACHE_REGION = "users";
+
+    // Secuencia por bloques para permitir INSERT en lotes (ver Place.id)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -48,19 +59,38 @@ public class User implements UserDetails {
 
     private Boolean isHost = false;
 
+    // Versión de los tokens emitidos: al incrementarla se revocan todos los JWT anteriores del usuario
+    @Column(nullable = false)
+    private Long tokenVersion = 0L;
+
+    // Versión optimista de la fila; forma parte del ETag de los alojamientos que anfitriona
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Relaciones
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private HostProfile hostProfile;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     private List<PasswordResetCode> passwordResetCodes = new ArrayList<>();
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     private List<Review> reviews = new ArrayList<>();
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "guest", cascade = CascadeType.ALL)
     private List<Booking> bookings = new ArrayList<>();
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "host", cascade = CascadeType.ALL)
     private List<Place> places = new ArrayList<>();
 
@@ -109,4 +139,8 @@ public class User implements UserDetails {
     public boolean isGuest() {
         return role == Role.GUEST;
     }
+
+    public void revokeTokens() {
+        tokenVersion = (tokenVersion == null ? 0L : tokenVersion) + 1;
+    }
 }
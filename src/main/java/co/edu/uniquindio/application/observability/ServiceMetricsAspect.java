@@ -0,0 +1,45 @@
+package co.edu.uniquindio.application.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+// Tiempo de cada método público de los *ServiceImpl (app.service.invocations, etiquetas class, method y
+// exception). La etiqueta class es la implementación, sea el proxy JDK o CGLIB. El conteo de invocaciones
+// y de errores sale del mismo timer. Las consultas de los repositorios
+// las mide Spring Boot (spring.data.repository.invocations).
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    static final String METRIC = "app.service.invocations";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * co.edu.uniquindio.application.services.impl.*ServiceImpl.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(METRIC)
+                    .description("Duración de los métodos de servicio")
+                    .tag("class", AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package co.edu.uniquindio.application.observability;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Cuenta las sentencias SQL que Hibernate prepara en el hilo de la petición en curso (ver RequestMetricsFilter).
+// Un lote JDBC cuenta una vez por sentencia preparada, no por fila. Fuera de una petición no cuenta nada.
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = CURRENT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    static void start() {
+        CURRENT.set(new long[1]);
+    }
+
+    // Retorna las sentencias contadas desde start() y deja de contar en este hilo
+    static long finish() {
+        long[] count = CURRENT.get();
+        CURRENT.remove();
+        return count != null ? count[0] : 0;
+    }
+}
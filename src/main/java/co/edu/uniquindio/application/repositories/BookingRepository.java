@@ -1,21 +1,38 @@
 package co.edu.uniquindio.application.repositories;
 
+import co.edu.uniquindio.application.dto.BookingExportRow;
 import co.edu.uniquindio.application.model.Booking;
 import co.edu.uniquindio.application.model.BookingStatus;
 import co.edu.uniquindio.application.model.Place;
 import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.repositories.projections.BookingRowView;
+import co.edu.uniquindio.application.repositories.projections.BookingSlotView;
+import co.edu.uniquindio.application.repositories.projections.RowColumns;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
+    // Lecturas que terminan en BookingResponse (ver Booking.WITH_GUEST_AND_PLACE)
+    @Override
+    @EntityGraph(Booking.WITH_GUEST_AND_PLACE)
+    Optional<Booking> findById(Long id);
+
     // Buscar reservas por huésped
     List<Booking> findByGuest(User guest);
 
@@ -43,10 +60,13 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             LocalDateTime checkInStart, LocalDateTime checkInEnd,
             LocalDateTime checkOutStart, LocalDateTime checkOutEnd);
 
-    // Verificar si hay reservas conflictivas para un alojamiento
+    // Verificar si hay reservas conflictivas para un alojamiento.
+    // Solapamiento de intervalos semiabiertos: también detecta una reserva que contiene el rango completo
+    // y permite encadenar estancias (check-out de una = check-in de la siguiente).
+    // Usa el índice idx_bookings_place_status_dates
     @Query("SELECT COUNT(b) > 0 FROM Booking b WHERE b.place = :place " +
             "AND b.status IN (:activeStatuses) " +
-            "AND ((b.checkIn BETWEEN :checkIn AND :checkOut) OR (b.checkOut BETWEEN :checkIn AND :checkOut))")
+            "AND b.checkIn < :checkOut AND b.checkOut > :checkIn")
     boolean existsConflictingBooking(
             @Param("place") Place place,
             @Param("checkIn") LocalDateTime checkIn,
@@ -59,6 +79,33 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             @Param("status") BookingStatus status,
             @Param("expirationTime") LocalDateTime expirationTime);
 
+    // Transiciones de estado en bloque: IDs del siguiente lote, sin cargar entidades
+    @Query("SELECT b.id FROM Booking b WHERE b.status = :status AND b.createdAt < :createdBefore")
+    List<Long> findIdsByStatusAndCreatedAtBefore(
+            @Param("status") BookingStatus status,
+            @Param("createdBefore") LocalDateTime createdBefore,
+            Limit limit);
+
+    @Query("SELECT b.id FROM Booking b WHERE b.status = :status AND b.checkOut <= :checkOutBefore")
+    List<Long> findIdsByStatusAndCheckOutBefore(
+            @Param("status") BookingStatus status,
+            @Param("checkOutBefore") LocalDateTime checkOutBefore,
+            Limit limit);
+
+    // UPDATE por conjunto; la condición sobre el estado de origen descarta las reservas
+    // que cambiaron entre la selección del lote y la actualización
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :to WHERE b.id IN (:ids) AND b.status = :from")
+    int transitionStatus(
+            @Param("ids") Collection<Long> ids,
+            @Param("from") BookingStatus from,
+            @Param("to") BookingStatus to);
+
+    @Query("SELECT b.id FROM Booking b WHERE b.id IN (:ids) AND b.status = :status")
+    List<Long> findIdsByIdInAndStatus(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") BookingStatus status);
+
     // Métricas para host: contar reservas por alojamiento y estado
     @Query("SELECT COUNT(b) FROM Booking b WHERE b.place.host = :host AND b.status = :status")
     long countByHostAndStatus(@Param("host") User host, @Param("status") BookingStatus status);
@@ -88,4 +135,52 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findByGuestAndStatusOrderByCreatedAtDesc(
             @Param("guest") User guest,
             @Param("status") BookingStatus status);
-}
\ No newline at end of file
+
+    // Calendario de disponibilidad: franjas ocupadas sin cargar entidades
+    @Query("SELECT b.id AS id, b.place.id AS placeId, b.checkIn AS checkIn, b.checkOut AS checkOut " +
+            "FROM Booking b WHERE b.status IN (:statuses)")
+    List<BookingSlotView> findSlotsByStatusIn(@Param("statuses") List<BookingStatus> statuses);
+
+    // Verificación final de candidatos: alojamientos con reservas que se solapan con el rango
+    @Query("SELECT DISTINCT b.place.id FROM Booking b WHERE b.place.id IN (:placeIds) " +
+            "AND b.status IN (:activeStatuses) " +
+            "AND b.checkIn < :checkOut AND b.checkOut > :checkIn")
+    List<Long> findConflictingPlaceIds(
+            @Param("placeIds") Collection<Long> placeIds,
+            @Param("checkIn") LocalDateTime checkIn,
+            @Param("checkOut") LocalDateTime checkOut,
+            @Param("activeStatuses") List<BookingStatus> activeStatuses);
+
+    // Listados paginados por cursor (createdAt, id) descendente: proyección de la reserva con huésped,
+    // alojamiento y anfitrión en una consulta, sin entidades administradas (ver RowColumns)
+    @Query("SELECT " + RowColumns.BOOKING + ", " + RowColumns.GUEST + ", " + RowColumns.NESTED_PLACE + ", " +
+            RowColumns.HOST + " FROM Booking b" + RowColumns.BOOKING_JOINS +
+            " WHERE g.id = :guestId " +
+            "AND (b.createdAt < :cursorCreatedAt OR (b.createdAt = :cursorCreatedAt AND b.id < :cursorId)) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingRowView> findRowsByGuestId(
+            @Param("guestId") Long guestId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+
+    @Query("SELECT " + RowColumns.BOOKING + ", " + RowColumns.GUEST + ", " + RowColumns.NESTED_PLACE + ", " +
+            RowColumns.HOST + " FROM Booking b" + RowColumns.BOOKING_JOINS +
+            " WHERE h.id = :hostId " +
+            "AND (b.createdAt < :cursorCreatedAt OR (b.createdAt = :cursorCreatedAt AND b.id < :cursorId)) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingRowView> findRowsByHostId(
+            @Param("hostId") Long hostId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+
+    // Exportación: lectura en streaming hacia adelante con tamaño de lote acotado
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new co.edu.uniquindio.application.dto.BookingExportRow(" +
+            "b.id, b.checkIn, b.checkOut, b.guestCount, b.price, b.status, b.createdAt, " +
+            "g.id, g.name, g.email, p.id, p.title) " +
+            "FROM Booking b JOIN b.guest g JOIN b.place p " +
+            "WHERE p.host = :host ORDER BY b.createdAt DESC, b.id DESC")
+    Stream<BookingExportRow> streamExportRowsByHost(@Param("host") User host);
+}
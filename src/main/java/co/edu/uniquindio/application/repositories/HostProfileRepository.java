@@ -2,7 +2,10 @@ package co.edu.uniquindio.application.repositories;
 
 import co.edu.uniquindio.application.model.HostProfile;
 import co.edu.uniquindio.application.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,7 +16,8 @@ public interface HostProfileRepository extends JpaRepository<HostProfile, Long>
     // Buscar perfil de host por usuario
     Optional<HostProfile> findByUser(User user);
 
-    // Buscar perfil de host por ID de usuario
+    // Buscar perfil de host por ID de usuario (caché de consultas, ver UserRepository.findByEmail)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<HostProfile> findByUserId(Long userId);
 
     // Verificar si un usuario tiene perfil de host
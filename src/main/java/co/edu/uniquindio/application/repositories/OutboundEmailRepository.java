@@ -0,0 +1,56 @@
+package co.edu.uniquindio.application.repositories;
+
+import co.edu.uniquindio.application.model.OutboundEmail;
+import co.edu.uniquindio.application.model.OutboundEmailStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboundEmailRepository extends JpaRepository<OutboundEmail, Long> {
+
+    // Correos cuyo próximo intento ya venció, los más antiguos primero
+    @Query("SELECT e.id FROM OutboundEmail e WHERE e.status = :status AND e.nextAttemptAt <= :now " +
+            "ORDER BY e.nextAttemptAt, e.id")
+    List<Long> findDueIds(@Param("status") OutboundEmailStatus status,
+                          @Param("now") LocalDateTime now,
+                          Limit limit);
+
+    // Toma el intento: solo lo consigue quien ve el correo pendiente y vencido. El nuevo arriendo
+    // (leaseUntil) identifica el intento en completeAttempt
+    @Modifying
+    @Query("UPDATE OutboundEmail e SET e.nextAttemptAt = :leaseUntil " +
+            "WHERE e.id = :id AND e.status = :status AND e.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id,
+              @Param("status") OutboundEmailStatus status,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // Resultado del intento, solo si la fila sigue con el arriendo de ese intento: si el envío tardó más que
+    // el arriendo y otro proceso tomó el correo, este resultado se descarta en lugar de pisar el suyo
+    @Modifying
+    @Query("UPDATE OutboundEmail e SET e.status = :status, e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, " +
+            "e.sentAt = :sentAt, e.lastError = :lastError " +
+            "WHERE e.id = :id AND e.status = :claimedStatus AND e.nextAttemptAt = :leaseUntil")
+    int completeAttempt(@Param("id") Long id,
+                        @Param("claimedStatus") OutboundEmailStatus claimedStatus,
+                        @Param("leaseUntil") LocalDateTime leaseUntil,
+                        @Param("status") OutboundEmailStatus status,
+                        @Param("attempts") int attempts,
+                        @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                        @Param("sentAt") LocalDateTime sentAt,
+                        @Param("lastError") String lastError);
+
+    // Purga de correos ya resueltos (enviados o descartados)
+    @Modifying
+    @Query("DELETE FROM OutboundEmail e WHERE e.status IN (:statuses) AND e.createdAt < :before")
+    int deleteByStatusInAndCreatedAtBefore(@Param("statuses") Collection<OutboundEmailStatus> statuses,
+                                           @Param("before") LocalDateTime before);
+}
@@ -23,11 +23,13 @@ public interface PasswordResetCodeRepository extends JpaRepository<PasswordReset
             @Param("user") User user,
             @Param("expirationTime") LocalDateTime expirationTime);
 
-    // Eliminar códigos expirados
+    // Eliminar códigos expirados (tarea programada PasswordResetCleanupJob)
     @Modifying
     @Query("DELETE FROM PasswordResetCode prc WHERE prc.createdAt < :expirationTime")
-    void deleteExpiredCodes(@Param("expirationTime") LocalDateTime expirationTime);
+    int deleteExpiredCodes(@Param("expirationTime") LocalDateTime expirationTime);
 
-    // Eliminar todos los códigos de un usuario
-    void deleteByUser(User user);
+    // Eliminar todos los códigos de un usuario, en una sola sentencia
+    @Modifying
+    @Query("DELETE FROM PasswordResetCode prc WHERE prc.user = :user")
+    void deleteByUser(@Param("user") User user);
 }
@@ -0,0 +1,9 @@
+package co.edu.uniquindio.application.repositories;
+
+// Fragmento de PlaceRepository para los agregados de calificación (ver PlaceRatingRepositoryImpl)
+public interface PlaceRatingRepository {
+
+    // Incremento atómico de ratingSum/ratingCount y de la revisión de reseñas, en la transacción de la reseña.
+    // Retorna las filas actualizadas
+    int applyRatingDelta(Long placeId, long sumDelta, long countDelta);
+}
@@ -0,0 +1,44 @@
+package co.edu.uniquindio.application.repositories;
+
+import co.edu.uniquindio.application.model.Place;
+import co.edu.uniquindio.application.transaction.AfterCommit;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+
+// El UPDATE va por JDBC sobre la conexión de la sesión, no como UPDATE masivo HQL: Hibernate invalida la
+// región completa de la caché de segundo nivel (places, placeImages, placeServices) tras cualquier
+// UPDATE masivo, y este se ejecuta con cada reseña. Aquí solo se desaloja la entrada del alojamiento,
+// antes y otra vez tras el commit para que una lectura concurrente no deje en caché los agregados anteriores.
+public class PlaceRatingRepositoryImpl implements PlaceRatingRepository {
+
+    private static final String APPLY_RATING_DELTA = "UPDATE places SET rating_sum = rating_sum + ?, " +
+            "rating_count = rating_count + ?, review_revision = review_revision + 1 WHERE id = ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int applyRatingDelta(Long placeId, long sumDelta, long countDelta) {
+        int updated = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(APPLY_RATING_DELTA)) {
+                statement.setLong(1, sumDelta);
+                statement.setLong(2, countDelta);
+                statement.setLong(3, placeId);
+                return statement.executeUpdate();
+            }
+        });
+
+        evictPlace(placeId);
+        AfterCommit.run(() -> evictPlace(placeId));
+        return updated;
+    }
+
+    private void evictPlace(Long placeId) {
+        entityManager.getEntityManagerFactory().getCache().evict(Place.class, placeId);
+    }
+}
@@ -4,24 +4,52 @@ import co.edu.uniquindio.application.model.Place;
 import co.edu.uniquindio.application.model.Service;
 import co.edu.uniquindio.application.model.Status;
 import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.repositories.projections.PlaceImageView;
+import co.edu.uniquindio.application.repositories.projections.PlaceLocationView;
+import co.edu.uniquindio.application.repositories.projections.PlaceRowView;
+import co.edu.uniquindio.application.repositories.projections.PlaceServiceView;
+import co.edu.uniquindio.application.repositories.projections.PlaceTextView;
+import co.edu.uniquindio.application.repositories.projections.PlaceVersionView;
+import co.edu.uniquindio.application.repositories.projections.RowColumns;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+// applyRatingDelta (agregados de calificación) está en PlaceRatingRepository
 @Repository
-public interface PlaceRepository extends JpaRepository<Place, Long> {
+public interface PlaceRepository extends JpaRepository<Place, Long>, PlaceRatingRepository {
+
+    // Lecturas que terminan en PlaceResponse: el anfitrión viaja en la misma consulta (ver Place.WITH_HOST)
+    @Override
+    @EntityGraph(Place.WITH_HOST)
+    Optional<Place> findById(Long id);
+
+    @Override
+    @EntityGraph(Place.WITH_HOST)
+    List<Place> findAllById(Iterable<Long> ids);
 
     // Buscar alojamientos por host
+    @EntityGraph(Place.WITH_HOST)
     List<Place> findByHost(User host);
 
     // Buscar alojamientos por host y estado
     List<Place> findByHostAndStatus(User host, Status status);
 
     // Buscar alojamientos por ciudad
+    @EntityGraph(Place.WITH_HOST)
     List<Place> findByAddressCityIgnoreCase(String city);
 
     // Buscar alojamientos por estado
@@ -31,16 +59,22 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     List<Place> findByStatusOrderByCreatedAtDesc(Status status);
 
     // Buscar alojamientos por rango de precio
+    @EntityGraph(Place.WITH_HOST)
     List<Place> findByNightlyPriceBetweenAndStatus(Double minPrice, Double maxPrice, Status status);
 
     // Buscar alojamientos por ciudad y rango de precio
     List<Place> findByAddressCityIgnoreCaseAndNightlyPriceBetweenAndStatus(
             String city, Double minPrice, Double maxPrice, Status status);
 
-    // Buscar alojamientos por servicios - CORREGIDO
-    @Query("SELECT DISTINCT p FROM Place p JOIN p.services s WHERE s IN :services AND p.status = :status")
-    List<Place> findByServicesInAndStatus(@Param("services") List<Service> services, // ← CAMBIADO A Service
-                                          @Param("status") Status status);
+    // Buscar alojamientos por servicios sobre la máscara de bits (sin JOIN ni DISTINCT):
+    // todos los de allOf y, si anyOf no es 0, al menos uno de anyOf (ver Service.toMask)
+    @Query("SELECT p FROM Place p WHERE p.status = :status " +
+            "AND bitand(p.servicesMask, CAST(:allOf AS Long)) = :allOf " +
+            "AND (CAST(:anyOf AS Long) = 0 OR bitand(p.servicesMask, CAST(:anyOf AS Long)) <> 0)")
+    @EntityGraph(Place.WITH_HOST)
+    List<Place> findByServicesMask(@Param("allOf") long allOf,
+                                   @Param("anyOf") long anyOf,
+                                   @Param("status") Status status);
 
     // Buscar alojamientos disponibles (sin reservas conflictivas)
     @Query("SELECT p FROM Place p WHERE p.status = :status " +
@@ -50,8 +84,13 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
             "AND p.id NOT IN (" +
             "    SELECT b.place.id FROM Booking b " +
             "    WHERE b.status IN (co.edu.uniquindio.application.model.BookingStatus.CONFIRMED, co.edu.uniquindio.application.model.BookingStatus.PENDING) " +
-            "    AND ((b.checkIn BETWEEN :checkIn AND :checkOut) OR (b.checkOut BETWEEN :checkIn AND :checkOut))" +
-            ")")
+            "    AND b.checkIn < :checkOut AND b.checkOut > :checkIn" +
+            ") " +
+            "AND (:minRating IS NULL OR (p.ratingCount > 0 AND p.ratingSum >= :minRating * p.ratingCount)) " +
+            "AND bitand(p.servicesMask, CAST(:allOf AS Long)) = :allOf " +
+            "AND (CAST(:anyOf AS Long) = 0 OR bitand(p.servicesMask, CAST(:anyOf AS Long)) <> 0) " +
+            "ORDER BY CASE WHEN p.ratingCount = 0 THEN 0.0 ELSE (p.ratingSum * 1.0 / p.ratingCount) END DESC, p.id")
+    @EntityGraph(Place.WITH_HOST)
     List<Place> findAvailablePlaces(
             @Param("city") String city,
             @Param("checkIn") LocalDateTime checkIn,
@@ -59,9 +98,113 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
             @Param("guests") Integer guests,
             @Param("minPrice") Double minPrice,
             @Param("maxPrice") Double maxPrice,
+            @Param("minRating") Double minRating,
+            @Param("allOf") long allOf,
+            @Param("anyOf") long anyOf,
+            @Param("status") Status status);
+
+    // Candidatos de búsqueda: filtros por atributos, la disponibilidad se resuelve en memoria
+    @Query("SELECT p FROM Place p WHERE p.status = :status " +
+            "AND p.address.city LIKE %:city% " +
+            "AND p.nightlyPrice BETWEEN :minPrice AND :maxPrice " +
+            "AND p.maxGuests >= :guests " +
+            "AND (:minRating IS NULL OR (p.ratingCount > 0 AND p.ratingSum >= :minRating * p.ratingCount)) " +
+            "AND bitand(p.servicesMask, CAST(:allOf AS Long)) = :allOf " +
+            "AND (CAST(:anyOf AS Long) = 0 OR bitand(p.servicesMask, CAST(:anyOf AS Long)) <> 0) " +
+            "ORDER BY CASE WHEN p.ratingCount = 0 THEN 0.0 ELSE (p.ratingSum * 1.0 / p.ratingCount) END DESC, p.id")
+    @EntityGraph(Place.WITH_HOST)
+    List<Place> findSearchCandidates(
+            @Param("city") String city,
+            @Param("guests") Integer guests,
+            @Param("minPrice") Double minPrice,
+            @Param("maxPrice") Double maxPrice,
+            @Param("minRating") Double minRating,
+            @Param("allOf") long allOf,
+            @Param("anyOf") long anyOf,
             @Param("status") Status status);
 
+    // Reparación en bloque de los agregados desde la tabla reviews
+    @Modifying
+    @Query("UPDATE Place p SET " +
+            "p.ratingSum = COALESCE((SELECT SUM(r.rating) FROM Review r WHERE r.place = p), 0), " +
+            "p.ratingCount = (SELECT COUNT(r) FROM Review r WHERE r.place = p), " +
+            "p.reviewRevision = p.reviewRevision + 1")
+    int recomputeRatingAggregates();
+
     // Contar alojamientos por host
     long countByHost(User host);
 
+    // Listados paginados por cursor (createdAt, id) descendente: proyección de solo las columnas de
+    // PlaceResponse y su anfitrión en una consulta, sin entidades administradas (ver RowColumns)
+    @Query("SELECT " + RowColumns.PLACE + ", " + RowColumns.HOST + " FROM Place p" + RowColumns.PLACE_JOINS +
+            " WHERE p.status = :status " +
+            "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PlaceRowView> findRowsByStatus(
+            @Param("status") Status status,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+
+    @Query("SELECT " + RowColumns.PLACE + ", " + RowColumns.HOST + " FROM Place p" + RowColumns.PLACE_JOINS +
+            " WHERE h.id = :hostId " +
+            "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PlaceRowView> findRowsByHostId(
+            @Param("hostId") Long hostId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+
+    // Imágenes y servicios de una página de alojamientos, en una consulta por colección
+    @Query("SELECT p.id AS placeId, i AS url FROM Place p JOIN p.images i WHERE p.id IN (:placeIds)")
+    List<PlaceImageView> findImagesByPlaceIds(@Param("placeIds") Collection<Long> placeIds);
+
+    @Query("SELECT p.id AS placeId, s AS service FROM Place p JOIN p.services s WHERE p.id IN (:placeIds)")
+    List<PlaceServiceView> findServicesByPlaceIds(@Param("placeIds") Collection<Long> placeIds);
+
+    // Bloqueo de fila (SELECT ... FOR UPDATE) que serializa las reservas concurrentes de un mismo alojamiento.
+    // La espera es menor que spring.datasource.hikari.connection-timeout: quien espera el bloqueo retiene una
+    // conexión del pool, y con una espera mayor una ráfaga sobre un alojamiento agotaría el pool para el resto
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "1000"))
+    @Query("SELECT p FROM Place p WHERE p.id = :id")
+    Optional<Place> findByIdForUpdate(@Param("id") Long id);
+
+    // Versiones para las lecturas condicionales (If-None-Match): una fila, sin imágenes ni servicios
+    @Query("SELECT p.id AS id, p.version AS version, p.reviewRevision AS reviewRevision, h.version AS hostVersion " +
+            "FROM Place p JOIN p.host h WHERE p.id = :id")
+    Optional<PlaceVersionView> findVersionById(@Param("id") Long id);
+
+    // Ubicaciones de alojamientos para el índice geoespacial
+    @Query("SELECT p.id AS id, p.address.location.latitude AS latitude, p.address.location.longitude AS longitude, " +
+            "p.servicesMask AS servicesMask " +
+            "FROM Place p WHERE p.status = :status " +
+            "AND p.address.location.latitude IS NOT NULL AND p.address.location.longitude IS NOT NULL")
+    List<PlaceLocationView> findLocationsByStatus(@Param("status") Status status);
+
+    // Respaldo de la búsqueda por cercanía mientras el índice no está cargado: franja de latitud
+    @Query("SELECT p.id AS id, p.address.location.latitude AS latitude, p.address.location.longitude AS longitude, " +
+            "p.servicesMask AS servicesMask " +
+            "FROM Place p WHERE p.status = :status " +
+            "AND p.address.location.latitude BETWEEN :minLatitude AND :maxLatitude " +
+            "AND p.address.location.longitude IS NOT NULL")
+    List<PlaceLocationView> findLocationsInLatitudeRange(
+            @Param("minLatitude") Double minLatitude,
+            @Param("maxLatitude") Double maxLatitude,
+            @Param("status") Status status);
+
+    // Campos de texto de los alojamientos para el índice de búsqueda por palabras clave
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description, p.address.city AS city " +
+            "FROM Place p WHERE p.status = :status")
+    List<PlaceTextView> findTextByStatus(@Param("status") Status status);
+
+    // Respaldo de la búsqueda por palabras clave mientras el índice no está cargado (recorrido completo)
+    @Query("SELECT p FROM Place p WHERE p.status = :status " +
+            "AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(p.address.city) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "ORDER BY p.id")
+    @EntityGraph(Place.WITH_HOST)
+    List<Place> searchByKeyword(@Param("keyword") String keyword, @Param("status") Status status, Limit limit);
 }
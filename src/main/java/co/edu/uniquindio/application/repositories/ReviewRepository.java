@@ -3,6 +3,10 @@ package co.edu.uniquindio.application.repositories;
 import co.edu.uniquindio.application.model.Place;
 import co.edu.uniquindio.application.model.Review;
 import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.repositories.projections.ReviewRowView;
+import co.edu.uniquindio.application.repositories.projections.RowColumns;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,6 +19,11 @@ import java.util.Optional;
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
+    // Lecturas que terminan en ReviewResponse (ver Review.WITH_USER_AND_PLACE)
+    @Override
+    @EntityGraph(Review.WITH_USER_AND_PLACE)
+    Optional<Review> findById(Long id);
+
     // Buscar reseñas por usuario
     List<Review> findByUser(User user);
 
@@ -54,4 +63,50 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
             @Param("host") User host,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
+
+    // Listados paginados por cursor (createdAt, id) descendente: proyección de la reseña con autor,
+    // alojamiento y anfitrión en una consulta, sin entidades administradas (ver RowColumns)
+    @Query("SELECT " + RowColumns.REVIEW + ", " + RowColumns.AUTHOR + ", " + RowColumns.NESTED_PLACE + ", " +
+            RowColumns.HOST + " FROM Review r" + RowColumns.REVIEW_JOINS +
+            " WHERE p.id = :placeId " +
+            "AND (r.createdAt < :cursorCreatedAt OR (r.createdAt = :cursorCreatedAt AND r.id < :cursorId)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewRowView> findRowsByPlaceId(
+            @Param("placeId") Long placeId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+
+    @Query("SELECT " + RowColumns.REVIEW + ", " + RowColumns.AUTHOR + ", " + RowColumns.NESTED_PLACE + ", " +
+            RowColumns.HOST + " FROM Review r" + RowColumns.REVIEW_JOINS +
+            " WHERE u.id = :userId " +
+            "AND (r.createdAt < :cursorCreatedAt OR (r.createdAt = :cursorCreatedAt AND r.id < :cursorId)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewRowView> findRowsByUserId(
+            @Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+
+    @Query("SELECT " + RowColumns.REVIEW + ", " + RowColumns.AUTHOR + ", " + RowColumns.NESTED_PLACE + ", " +
+            RowColumns.HOST + " FROM Review r" + RowColumns.REVIEW_JOINS +
+            " WHERE h.id = :hostId AND r.reply IS NOT NULL " +
+            "AND (r.createdAt < :cursorCreatedAt OR (r.createdAt = :cursorCreatedAt AND r.id < :cursorId)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewRowView> findRowsWithRepliesByHostId(
+            @Param("hostId") Long hostId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+
+    @Query("SELECT " + RowColumns.REVIEW + ", " + RowColumns.AUTHOR + ", " + RowColumns.NESTED_PLACE + ", " +
+            RowColumns.HOST + " FROM Review r" + RowColumns.REVIEW_JOINS +
+            " WHERE h.id = :hostId AND r.reply IS NULL " +
+            "AND (r.createdAt < :cursorCreatedAt OR (r.createdAt = :cursorCreatedAt AND r.id < :cursorId)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewRowView> findRowsWithoutRepliesByHostId(
+            @Param("hostId") Long hostId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
 }
@@ -3,7 +3,12 @@ package co.edu.uniquindio.application.repositories;
 import co.edu.uniquindio.application.model.Role;
 import co.edu.uniquindio.application.model.Status;
 import co.edu.uniquindio.application.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,7 +17,9 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    // Buscar usuario por email
+    // Buscar usuario por email. En la caché de consultas: el ID se resuelve sin SQL y la entidad sale
+    // de la región users; cualquier escritura en la tabla users invalida el resultado
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
 
     // Verificar si existe un usuario con ese email
@@ -32,4 +39,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // Contar usuarios por rol
     long countByRole(Role role);
+
+    // Versión vigente de los tokens del usuario (validación de JWT sin cargar la entidad)
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.email = :email")
+    Optional<Long> findTokenVersionByEmail(@Param("email") String email);
 }
@@ -0,0 +1,63 @@
+package co.edu.uniquindio.application.repositories.projections;
+
+import co.edu.uniquindio.application.model.BookingStatus;
+import co.edu.uniquindio.application.model.Role;
+import co.edu.uniquindio.application.model.Status;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Fila de listado de reservas: columnas de BookingResponse, con huésped, alojamiento y anfitrión
+public interface BookingRowView {
+    Long getId();
+    LocalDateTime getCheckIn();
+    LocalDateTime getCheckOut();
+    Integer getGuestCount();
+    Double getPrice();
+    BookingStatus getStatus();
+    LocalDateTime getCreatedAt();
+
+    // Huésped
+    Long getGuestId();
+    String getGuestName();
+    String getGuestEmail();
+    LocalDate getGuestDateBirth();
+    String getGuestPhone();
+    String getGuestPhotoUrl();
+    Role getGuestRole();
+    Status getGuestStatus();
+    Boolean getGuestIsHost();
+    LocalDateTime getGuestCreatedAt();
+    Long getGuestProfileId();
+    String getGuestLegalDocument();
+    String getGuestAboutMe();
+
+    // Alojamiento
+    Long getPlaceId();
+    String getPlaceTitle();
+    String getPlaceDescription();
+    String getPlaceStreet();
+    String getPlaceCity();
+    Double getPlaceLatitude();
+    Double getPlaceLongitude();
+    Double getPlaceNightlyPrice();
+    Integer getPlaceMaxGuests();
+    Status getPlaceStatus();
+    LocalDateTime getPlaceCreatedAt();
+    Long getPlaceRatingSum();
+    Long getPlaceRatingCount();
+
+    // Anfitrión del alojamiento
+    Long getHostId();
+    String getHostName();
+    String getHostEmail();
+    LocalDate getHostDateBirth();
+    String getHostPhone();
+    String getHostPhotoUrl();
+    Role getHostRole();
+    Status getHostStatus();
+    Boolean getHostIsHost();
+    LocalDateTime getHostCreatedAt();
+    Long getHostProfileId();
+    String getHostLegalDocument();
+    String getHostAboutMe();
+}
@@ -0,0 +1,11 @@
+package co.edu.uniquindio.application.repositories.projections;
+
+import java.time.LocalDateTime;
+
+// Proyección mínima de una reserva: solo lo necesario para el calendario de disponibilidad
+public interface BookingSlotView {
+    Long getId();
+    Long getPlaceId();
+    LocalDateTime getCheckIn();
+    LocalDateTime getCheckOut();
+}
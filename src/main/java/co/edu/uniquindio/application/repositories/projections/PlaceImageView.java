@@ -0,0 +1,7 @@
+package co.edu.uniquindio.application.repositories.projections;
+
+// Imagen de un alojamiento, para completar las filas de listado sin cargar la colección
+public interface PlaceImageView {
+    Long getPlaceId();
+    String getUrl();
+}
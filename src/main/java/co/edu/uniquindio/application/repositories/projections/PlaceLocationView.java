@@ -0,0 +1,9 @@
+package co.edu.uniquindio.application.repositories.projections;
+
+// Proyección mínima de un alojamiento para el índice geoespacial
+public interface PlaceLocationView {
+    Long getId();
+    Double getLatitude();
+    Double getLongitude();
+    Long getServicesMask();
+}
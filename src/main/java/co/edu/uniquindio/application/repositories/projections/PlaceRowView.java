@@ -0,0 +1,38 @@
+package co.edu.uniquindio.application.repositories.projections;
+
+import co.edu.uniquindio.application.model.Role;
+import co.edu.uniquindio.application.model.Status;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Fila de listado de alojamientos: columnas de PlaceResponse (salvo imágenes y servicios) y de su anfitrión
+public interface PlaceRowView {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    String getStreet();
+    String getCity();
+    Double getLatitude();
+    Double getLongitude();
+    Double getNightlyPrice();
+    Integer getMaxGuests();
+    Status getStatus();
+    LocalDateTime getCreatedAt();
+    Long getRatingSum();
+    Long getRatingCount();
+
+    // Anfitrión
+    Long getHostId();
+    String getHostName();
+    String getHostEmail();
+    LocalDate getHostDateBirth();
+    String getHostPhone();
+    String getHostPhotoUrl();
+    Role getHostRole();
+    Status getHostStatus();
+    Boolean getHostIsHost();
+    LocalDateTime getHostCreatedAt();
+    Long getHostProfileId();
+    String getHostLegalDocument();
+    String getHostAboutMe();
+}
@@ -0,0 +1,9 @@
+package co.edu.uniquindio.application.repositories.projections;
+
+import co.edu.uniquindio.application.model.Service;
+
+// Servicio de un alojamiento, para completar las filas de listado sin cargar la colección
+public interface PlaceServiceView {
+    Long getPlaceId();
+    Service getService();
+}
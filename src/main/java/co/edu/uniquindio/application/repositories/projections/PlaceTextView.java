@@ -0,0 +1,9 @@
+package co.edu.uniquindio.application.repositories.projections;
+
+// Proyección de los campos de texto de un alojamiento para el índice de búsqueda
+public interface PlaceTextView {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    String getCity();
+}
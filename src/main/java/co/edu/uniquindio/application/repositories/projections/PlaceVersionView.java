@@ -0,0 +1,9 @@
+package co.edu.uniquindio.application.repositories.projections;
+
+// Versión de un alojamiento y de lo que incluye su respuesta: base de los ETag, sin cargar la entidad
+public interface PlaceVersionView {
+    Long getId();
+    Long getVersion();
+    Long getReviewRevision();
+    Long getHostVersion();
+}
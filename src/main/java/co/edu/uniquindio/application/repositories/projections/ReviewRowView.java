@@ -0,0 +1,61 @@
+package co.edu.uniquindio.application.repositories.projections;
+
+import co.edu.uniquindio.application.model.Role;
+import co.edu.uniquindio.application.model.Status;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Fila de listado de reseñas: columnas de ReviewResponse, con autor, alojamiento y anfitrión
+public interface ReviewRowView {
+    Long getId();
+    Integer getRating();
+    String getComment();
+    LocalDateTime getCreatedAt();
+    String getReplyMessage();
+    LocalDateTime getRepliedAt();
+
+    // Autor
+    Long getUserId();
+    String getUserName();
+    String getUserEmail();
+    LocalDate getUserDateBirth();
+    String getUserPhone();
+    String getUserPhotoUrl();
+    Role getUserRole();
+    Status getUserStatus();
+    Boolean getUserIsHost();
+    LocalDateTime getUserCreatedAt();
+    Long getUserProfileId();
+    String getUserLegalDocument();
+    String getUserAboutMe();
+
+    // Alojamiento
+    Long getPlaceId();
+    String getPlaceTitle();
+    String getPlaceDescription();
+    String getPlaceStreet();
+    String getPlaceCity();
+    Double getPlaceLatitude();
+    Double getPlaceLongitude();
+    Double getPlaceNightlyPrice();
+    Integer getPlaceMaxGuests();
+    Status getPlaceStatus();
+    LocalDateTime getPlaceCreatedAt();
+    Long getPlaceRatingSum();
+    Long getPlaceRatingCount();
+
+    // Anfitrión del alojamiento
+    Long getHostId();
+    String getHostName();
+    String getHostEmail();
+    LocalDate getHostDateBirth();
+    String getHostPhone();
+    String getHostPhotoUrl();
+    Role getHostRole();
+    Status getHostStatus();
+    Boolean getHostIsHost();
+    LocalDateTime getHostCreatedAt();
+    Long getHostProfileId();
+    String getHostLegalDocument();
+    String getHostAboutMe();
+}
@@ -0,0 +1,59 @@
+package co.edu.uniquindio.application.repositories.projections;
+
+// Listas de columnas (con alias) de las consultas de proyección de los listados.
+// Cada alias corresponde a un getter de PlaceRowView, BookingRowView o ReviewRowView;
+// los usuarios llevan el prefijo de su rol (host, guest, user) y el alojamiento anidado el prefijo place.
+public final class RowColumns {
+
+    private RowColumns() {
+    }
+
+    // Alojamiento p
+    public static final String PLACE = "p.id AS id, p.title AS title, p.description AS description, " +
+            "p.address.address AS street, p.address.city AS city, p.address.location.latitude AS latitude, " +
+            "p.address.location.longitude AS longitude, p.nightlyPrice AS nightlyPrice, p.maxGuests AS maxGuests, " +
+            "p.status AS status, p.createdAt AS createdAt, p.ratingSum AS ratingSum, " +
+            "p.ratingCount AS ratingCount";
+
+    // Alojamiento p dentro de una reserva o reseña
+    public static final String NESTED_PLACE = "p.id AS placeId, p.title AS placeTitle, p.description AS placeDescription, " +
+            "p.address.address AS placeStreet, p.address.city AS placeCity, p.address.location.latitude AS placeLatitude, " +
+            "p.address.location.longitude AS placeLongitude, p.nightlyPrice AS placeNightlyPrice, p.maxGuests AS placeMaxGuests, " +
+            "p.status AS placeStatus, p.createdAt AS placeCreatedAt, p.ratingSum AS placeRatingSum, " +
+            "p.ratingCount AS placeRatingCount";
+
+    // Anfitrión h del alojamiento, con su perfil hhp
+    public static final String HOST = "h.id AS hostId, h.name AS hostName, h.email AS hostEmail, " +
+            "h.dateBirth AS hostDateBirth, h.phone AS hostPhone, h.photoUrl AS hostPhotoUrl, " +
+            "h.role AS hostRole, h.status AS hostStatus, h.isHost AS hostIsHost, " +
+            "h.createdAt AS hostCreatedAt, hhp.id AS hostProfileId, hhp.legalDocument AS hostLegalDocument, " +
+            "hhp.aboutMe AS hostAboutMe";
+
+    // Huésped g de una reserva, con su perfil ghp
+    public static final String GUEST = "g.id AS guestId, g.name AS guestName, g.email AS guestEmail, " +
+            "g.dateBirth AS guestDateBirth, g.phone AS guestPhone, g.photoUrl AS guestPhotoUrl, " +
+            "g.role AS guestRole, g.status AS guestStatus, g.isHost AS guestIsHost, " +
+            "g.createdAt AS guestCreatedAt, ghp.id AS guestProfileId, ghp.legalDocument AS guestLegalDocument, " +
+            "ghp.aboutMe AS guestAboutMe";
+
+    // Autor u de una reseña, con su perfil uhp
+    public static final String AUTHOR = "u.id AS userId, u.name AS userName, u.email AS userEmail, " +
+            "u.dateBirth AS userDateBirth, u.phone AS userPhone, u.photoUrl AS userPhotoUrl, " +
+            "u.role AS userRole, u.status AS userStatus, u.isHost AS userIsHost, " +
+            "u.createdAt AS userCreatedAt, uhp.id AS userProfileId, uhp.legalDocument AS userLegalDocument, " +
+            "uhp.aboutMe AS userAboutMe";
+
+    public static final String BOOKING = "b.id AS id, b.checkIn AS checkIn, b.checkOut AS checkOut, " +
+            "b.guestCount AS guestCount, b.price AS price, b.status AS status, " +
+            "b.createdAt AS createdAt";
+
+    public static final String REVIEW = "r.id AS id, r.rating AS rating, r.comment AS comment, " +
+            "r.createdAt AS createdAt, r.reply.message AS replyMessage, r.reply.repliedAt AS repliedAt";
+
+    // Uniones que introducen los alias anteriores
+    public static final String PLACE_JOINS = " JOIN p.host h LEFT JOIN h.hostProfile hhp";
+
+    public static final String BOOKING_JOINS = " JOIN b.guest g LEFT JOIN g.hostProfile ghp JOIN b.place p" + PLACE_JOINS;
+
+    public static final String REVIEW_JOINS = " JOIN r.user u LEFT JOIN u.hostProfile uhp JOIN r.place p" + PLACE_JOINS;
+}
@@ -0,0 +1,78 @@
+package co.edu.uniquindio.application.security;
+
+import co.edu.uniquindio.application.model.Role;
+import co.edu.uniquindio.application.model.Status;
+import co.edu.uniquindio.application.model.User;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Instantánea inmutable del usuario autenticado. Es lo que se guarda en caché y en el
+// SecurityContext de cada petición, en lugar de la entidad User con sus relaciones.
+public record AuthenticatedUser(Long id, String email, Role role, Status status, boolean host,
+                                List<GrantedAuthority> authorities) implements UserDetails {
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole(), user.getStatus(), user.isHost(),
+                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())));
+    }
+
+    // Construida solo desde claims firmados con versión vigente: un usuario desactivado
+    // tiene su versión incrementada, por lo que sus tokens nunca llegan aquí
+    public static AuthenticatedUser fromClaims(JwtClaims claims) {
+        return new AuthenticatedUser(claims.userId(), claims.subject(), Role.valueOf(claims.role()), Status.ACTIVE,
+                claims.host(), List.of(new SimpleGrantedAuthority("ROLE_" + claims.role())));
+    }
+
+    // Usuario autenticado de la petición en curso (SecurityContext del hilo)
+    public static Optional<AuthenticatedUser> current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return Optional.of(user);
+        }
+        return Optional.empty();
+    }
+
+    // Solo el propio usuario o un administrador pueden operar sobre los recursos de userId
+    public static void checkOwnerOrAdmin(Long userId) {
+        boolean allowed = current()
+                .map(user -> user.role() == Role.ADMIN || user.id().equals(userId))
+                .orElse(false);
+        if (!allowed) {
+            throw new AccessDeniedException("El usuario autenticado no es el propietario del recurso");
+        }
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    // La contraseña nunca forma parte de la instantánea
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return status == Status.ACTIVE;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return status == Status.ACTIVE;
+    }
+}
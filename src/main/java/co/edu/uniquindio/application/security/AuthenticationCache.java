@@ -0,0 +1,80 @@
+package co.edu.uniquindio.application.security;
+
+import co.edu.uniquindio.application.transaction.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// Cachés acotadas con TTL para el filtro JWT:
+//  - token -> claims ya validados (evita verificar la firma en cada petición)
+//  - email -> instantánea del usuario (evita la consulta findByEmail en cada petición)
+//  - email -> versión vigente de sus tokens (modo sin estado)
+@Component
+public class AuthenticationCache {
+
+    private final Cache<String, JwtClaims> tokens;
+    private final Cache<String, AuthenticatedUser> principals;
+    private final Cache<String, Long> tokenVersions;
+
+    public AuthenticationCache(
+            @Value("${app.security.auth-cache.ttl:5m}") Duration ttl,
+            @Value("${app.security.auth-cache.max-size:10000}") long maxSize) {
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.tokenVersions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // Claims del token; el cargador debe lanzar excepción si el token no es válido (no se cachea)
+    public JwtClaims getTokenClaims(String token, Function<String, JwtClaims> parser) {
+        JwtClaims claims = tokens.get(token, parser);
+        if (claims.isExpired()) {
+            tokens.invalidate(token);
+            return null;
+        }
+        return claims;
+    }
+
+    public AuthenticatedUser getPrincipal(String email, Function<String, AuthenticatedUser> loader) {
+        return principals.get(email, loader);
+    }
+
+    public long getTokenVersion(String email, Function<String, Long> loader) {
+        return tokenVersions.get(email, loader);
+    }
+
+    // Fuerza la lectura de la versión desde el cargador (p. ej. el token es más nuevo que la caché)
+    public long refreshTokenVersion(String email, Function<String, Long> loader) {
+        tokenVersions.invalidate(email);
+        return tokenVersions.get(email, loader);
+    }
+
+    // Debe llamarse cuando cambian el estado, rol o credenciales del usuario.
+    // Se invalida de inmediato y otra vez tras el commit, para que una petición concurrente
+    // no deje en caché el estado anterior.
+    public void evictUser(String email) {
+        if (email == null) {
+            return;
+        }
+        evictNow(email);
+        AfterCommit.onCommit(() -> evictNow(email));
+    }
+
+    private void evictNow(String email) {
+        principals.invalidate(email);
+        tokenVersions.invalidate(email);
+        tokens.asMap().values().removeIf(claims -> email.equals(claims.subject()));
+    }
+}
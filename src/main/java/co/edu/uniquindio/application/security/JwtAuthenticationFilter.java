@@ -1,11 +1,13 @@
 package co.edu.uniquindio.application.security;
 
 import co.edu.uniquindio.application.services.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -18,11 +20,29 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsServiceImpl userDetailsService;
+    private final AuthenticationCache authenticationCache;
+
+    // Modo sin estado: el principal se construye desde los claims firmados (rol, ID, host)
+    // y solo se consulta la versión de tokens del usuario, no la entidad completa
+    private final boolean stateless;
+
+    private final MeterRegistry meterRegistry;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   UserDetailsServiceImpl userDetailsService,
+                                   AuthenticationCache authenticationCache,
+                                   @Value("${app.jwt.stateless-auth:false}") boolean stateless,
+                                   MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userDetailsService = userDetailsService;
+        this.authenticationCache = authenticationCache;
+        this.stateless = stateless;
+        this.meterRegistry = meterRegistry;
+    }
 
     @Override
     protected void doFilterInternal(
@@ -31,29 +51,60 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
 
+        // Tiempo de autenticación del token (security.jwt.authentication), sin incluir el resto de la cadena
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "anonymous";
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String userEmail = jwtTokenProvider.getUserEmailFromJWT(jwt);
+            if (StringUtils.hasText(jwt)) {
+                outcome = "rejected";
+                // En caché: sin verificación de firma ni acceso a base de datos
+                JwtClaims claims = authenticationCache.getTokenClaims(jwt, jwtTokenProvider::parse);
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+                if (claims != null) {
+                    UserDetails userDetails = stateless && claims.isStateless()
+                            ? principalFromClaims(claims)
+                            : authenticationCache.getPrincipal(claims.subject(), userDetailsService::loadPrincipal);
 
-                UsernamePasswordAuthenticationToken auth =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities());
+                    if (userDetails != null && userDetails.isEnabled()) {
+                        UsernamePasswordAuthenticationToken auth =
+                                new UsernamePasswordAuthenticationToken(
+                                        userDetails, null, userDetails.getAuthorities());
 
-                auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(auth);
+                        auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        SecurityContextHolder.getContext().setAuthentication(auth);
+                        outcome = "authenticated";
+                    }
+                }
             }
 
         } catch (Exception ex) {
+            outcome = "error";
             logger.error("Error procesando JWT: {}", ex);
+        } finally {
+            sample.stop(Timer.builder("security.jwt.authentication")
+                    .description("Validación del token JWT y carga del principal")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
 
         filterChain.doFilter(request, response);
     }
 
+    // Retorna null si el token fue revocado (su versión es anterior a la vigente)
+    private UserDetails principalFromClaims(JwtClaims claims) {
+        long tokenVersion = claims.tokenVersion();
+        long current = authenticationCache.getTokenVersion(claims.subject(), userDetailsService::loadTokenVersion);
+
+        // Token emitido después de que la versión quedó en caché: releer desde la base de datos
+        if (tokenVersion > current) {
+            current = authenticationCache.refreshTokenVersion(claims.subject(), userDetailsService::loadTokenVersion);
+        }
+
+        return tokenVersion == current ? AuthenticatedUser.fromClaims(claims) : null;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearer = request.getHeader("Authorization");
         if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
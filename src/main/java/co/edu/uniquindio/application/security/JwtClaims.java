@@ -0,0 +1,17 @@
+package co.edu.uniquindio.application.security;
+
+import java.util.Date;
+
+// Datos del token extraídos en una sola pasada de verificación
+public record JwtClaims(String subject, Date expiration, String role,
+                        Long userId, boolean host, Long tokenVersion) {
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+
+    // Los tokens emitidos antes de incluir usuario y versión no permiten autenticar sin consultar la BD
+    public boolean isStateless() {
+        return userId != null && role != null && tokenVersion != null;
+    }
+}
@@ -3,26 +3,77 @@ package co.edu.uniquindio.application.security;
 import co.edu.uniquindio.application.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.security.Key;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 
 @Component
 public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    public static final String ROLE_CLAIM = "role";
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String HOST_CLAIM = "host";
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+
     @Value("${app.jwt.secret:mySuperSecureKeyWhichIsLongEnough123456}")
     private String jwtSecret;
 
+    // Identificador (kid) de la clave con la que se firman los tokens nuevos
+    @Value("${app.jwt.key-id:default}")
+    private String activeKeyId;
+
+    // Claves anteriores que siguen aceptándose durante una rotación, formato "kid:secreto,kid:secreto"
+    @Value("${app.jwt.previous-keys:}")
+    private String previousKeys;
+
     @Value("${app.jwt.expiration:86400000}") // 24 horas
     private int jwtExpirationInMs;
 
+    private SecretKey signingKey;
+    private Map<String, SecretKey> verificationKeys;
+
+    // JwtParser es inmutable y seguro entre hilos: se construye una sola vez
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        Map<String, SecretKey> keys = new HashMap<>();
+        if (StringUtils.hasText(previousKeys)) {
+            for (String entry : previousKeys.split(",")) {
+                int separator = entry.indexOf(':');
+                if (separator <= 0) {
+                    throw new IllegalStateException("Formato inválido en app.jwt.previous-keys, se espera kid:secreto");
+                }
+                keys.put(entry.substring(0, separator).trim(), toKey(entry.substring(separator + 1).trim()));
+            }
+        }
+        signingKey = toKey(jwtSecret);
+        keys.put(activeKeyId, signingKey);
+        verificationKeys = Map.copyOf(keys);
+
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
     public String generateToken(Authentication authentication) {
         User userPrincipal = (User) authentication.getPrincipal();
 
@@ -30,29 +81,38 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(now.getTime() + jwtExpirationInMs);
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, activeKeyId)
                 .setSubject(userPrincipal.getEmail())
+                .claim(ROLE_CLAIM, userPrincipal.getRole().name())
+                .claim(USER_ID_CLAIM, userPrincipal.getId())
+                .claim(HOST_CLAIM, userPrincipal.isHost())
+                .claim(TOKEN_VERSION_CLAIM, userPrincipal.getTokenVersion())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String getUserEmailFromJWT(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // Verifica firma y expiración y extrae todos los claims en una sola pasada.
+    // Lanza JwtException si el token no es válido.
+    public JwtClaims parse(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        return new JwtClaims(
+                claims.getSubject(),
+                claims.getExpiration(),
+                claims.get(ROLE_CLAIM, String.class),
+                claims.get(USER_ID_CLAIM, Long.class),
+                Boolean.TRUE.equals(claims.get(HOST_CLAIM, Boolean.class)),
+                claims.get(TOKEN_VERSION_CLAIM, Long.class));
+    }
 
-        return claims.getSubject();
+    public String getUserEmailFromJWT(String token) {
+        return parse(token).subject();
     }
 
     public boolean validateToken(String authToken) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(authToken);
+            parse(authToken);
             return true;
         } catch (Exception ex) {
             logger.error("Error al validar JWT: {}", ex.getMessage());
@@ -60,8 +120,19 @@ public class JwtTokenProvider {
         return false;
     }
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    // Tokens sin kid (emitidos antes de la rotación) se verifican con la clave activa
+    private Key resolveKey(String keyId) {
+        if (keyId == null) {
+            return signingKey;
+        }
+        SecretKey key = verificationKeys.get(keyId);
+        if (key == null) {
+            throw new SignatureException("Clave de firma desconocida: " + keyId);
+        }
+        return key;
+    }
+
+    private static SecretKey toKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes());
     }
 }
-
@@ -20,5 +20,19 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .orElseThrow(() ->
                         new UsernameNotFoundException("Usuario no encontrado: " + email));
     }
+
+    // Instantánea inmutable para el filtro JWT (sin contraseña ni relaciones)
+    public AuthenticatedUser loadPrincipal(String email) throws UsernameNotFoundException {
+        return userRepository.findByEmail(email)
+                .map(AuthenticatedUser::from)
+                .orElseThrow(() ->
+                        new UsernameNotFoundException("Usuario no encontrado: " + email));
+    }
+
+    public Long loadTokenVersion(String email) throws UsernameNotFoundException {
+        return userRepository.findTokenVersionByEmail(email)
+                .orElseThrow(() ->
+                        new UsernameNotFoundException("Usuario no encontrado: " + email));
+    }
 }
 
@@ -1,5 +1,7 @@
 package co.edu.uniquindio.application.services;
 
+import co.edu.uniquindio.application.dto.BookingExportRow;
+import co.edu.uniquindio.application.dto.BookingTransitionResult;
 import co.edu.uniquindio.application.model.Booking;
 import co.edu.uniquindio.application.model.BookingStatus;
 import co.edu.uniquindio.application.model.Place;
@@ -8,6 +10,7 @@ import co.edu.uniquindio.application.model.User;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface BookingService {
     Booking createBooking(Booking booking);
@@ -21,9 +24,15 @@ public interface BookingService {
     boolean isPlaceAvailable(Place place, LocalDateTime checkIn, LocalDateTime checkOut);
     double calculateBookingPrice(Place place, LocalDateTime checkIn, LocalDateTime checkOut, Integer guests);
     List<Booking> getExpiredPendingBookings();
-    void expirePendingBookings();
+
+    // Transiciones en bloque: cada llamada procesa un lote de hasta chunkSize reservas en su transacción
+    BookingTransitionResult expirePendingBookings(LocalDateTime createdBefore, int chunkSize);
+    BookingTransitionResult completeFinishedBookings(LocalDateTime checkOutBefore, int chunkSize);
 
     // Métricas para hosts
     long getBookingCountByHostAndStatus(User host, BookingStatus status);
     double getAverageRatingByHostAndDateRange(User host, LocalDateTime startDate, LocalDateTime endDate);
+
+    // Exportación en streaming
+    void exportBookingsByHost(User host, Consumer<BookingExportRow> consumer);
 }
@@ -0,0 +1,19 @@
+package co.edu.uniquindio.application.services;
+
+import co.edu.uniquindio.application.dto.BookingResponse;
+import co.edu.uniquindio.application.dto.CursorPage;
+import co.edu.uniquindio.application.dto.PageCursor;
+import co.edu.uniquindio.application.dto.PlaceResponse;
+import co.edu.uniquindio.application.dto.ReviewResponse;
+
+// Listados paginados por cursor, armados desde proyecciones de solo lectura (sin entidades administradas)
+public interface ListingService {
+    CursorPage<PlaceResponse> getActivePlaces(PageCursor cursor, int size);
+    CursorPage<PlaceResponse> getPlacesByHost(Long hostId, PageCursor cursor, int size);
+    CursorPage<BookingResponse> getBookingsByGuest(Long guestId, PageCursor cursor, int size);
+    CursorPage<BookingResponse> getBookingsByHost(Long hostId, PageCursor cursor, int size);
+    CursorPage<ReviewResponse> getReviewsByPlace(Long placeId, PageCursor cursor, int size);
+    CursorPage<ReviewResponse> getReviewsByUser(Long userId, PageCursor cursor, int size);
+    CursorPage<ReviewResponse> getReviewsWithRepliesByHost(Long hostId, PageCursor cursor, int size);
+    CursorPage<ReviewResponse> getReviewsWithoutRepliesByHost(Long hostId, PageCursor cursor, int size);
+}
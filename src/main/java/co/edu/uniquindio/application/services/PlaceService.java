@@ -1,7 +1,10 @@
 package co.edu.uniquindio.application.services;
 
+import co.edu.uniquindio.application.dto.NearbyPlace;
 import co.edu.uniquindio.application.model.Place;
+import co.edu.uniquindio.application.model.Service;
 import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.repositories.projections.PlaceVersionView;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -9,12 +12,18 @@ import java.util.Optional;
 
 public interface PlaceService {
     Place createPlace(Place place);
+    List<Place> importPlaces(User host, List<Place> places);
     Optional<Place> getPlaceById(Long id);
+    Optional<PlaceVersionView> getPlaceVersion(Long id);
     List<Place> getPlacesByHost(User host);
     List<Place> getPlacesByCity(String city);
     List<Place> getAvailablePlaces(String city, LocalDateTime checkIn, LocalDateTime checkOut,
-                                   Integer guests, Double minPrice, Double maxPrice);
+                                   Integer guests, Double minPrice, Double maxPrice, Double minRating,
+                                   List<Service> allServices, List<Service> anyServices);
     List<Place> getPlacesByPriceRange(Double minPrice, Double maxPrice);
+    List<NearbyPlace> getPlacesNear(Double latitude, Double longitude, Double radiusKm,
+                                    List<Service> allServices, List<Service> anyServices, Integer limit);
+    List<Place> searchPlacesByText(String query, Integer limit);
     Place updatePlace(Long id, Place placeDetails);
     void deletePlace(Long id);
     Place activatePlace(Long id);
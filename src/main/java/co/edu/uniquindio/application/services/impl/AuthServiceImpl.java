@@ -1,9 +1,11 @@
 package co.edu.uniquindio.application.services.impl;
 
+import co.edu.uniquindio.application.mail.EmailOutbox;
 import co.edu.uniquindio.application.model.User;
 import co.edu.uniquindio.application.model.PasswordResetCode;
 import co.edu.uniquindio.application.repositories.PasswordResetCodeRepository;
 import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.security.AuthenticationCache;
 import co.edu.uniquindio.application.services.AuthService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -20,6 +22,8 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final PasswordResetCodeRepository passwordResetCodeRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthenticationCache authenticationCache;
+    private final EmailOutbox emailOutbox;
 
     @Override
     @Transactional
@@ -61,15 +65,17 @@ public class AuthServiceImpl implements AuthService {
     @Override
     @Transactional
     public void requestPasswordReset(String email) {
+        // Límite por email antes de cualquier acceso a la base: una ráfaga rechazada no borra ni inserta códigos.
+        // Si la solicitud falla (p. ej. usuario inexistente) el cupo se devuelve con el rollback
+        emailOutbox.reserve(email);
+
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
 
-        // Eliminar códigos anteriores del usuario
+        // Eliminar códigos anteriores del usuario. Los vencidos de todos los usuarios los barre
+        // PasswordResetCleanupJob en segundo plano
         passwordResetCodeRepository.deleteByUser(user);
 
-        // Eliminar códigos expirados del sistema
-        passwordResetCodeRepository.deleteExpiredCodes(LocalDateTime.now().minusMinutes(15));
-
         // Generar nuevo código
         String code = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
 
@@ -80,9 +86,10 @@ public class AuthServiceImpl implements AuthService {
 
         passwordResetCodeRepository.save(resetCode);
 
-        // En un caso real, aquí enviaríamos el código por email
-        System.out.println("Código de restablecimiento para " + email + ": " + code);
-        System.out.println("Este código expira en 15 minutos");
+        // Se entrega tras el commit, fuera de la petición
+        emailOutbox.enqueue(user.getEmail(), "Código de restablecimiento de contraseña",
+                "Tu código de restablecimiento es: " + code + "\n" +
+                        "Este código expira en " + PasswordResetCode.TTL.toMinutes() + " minutos.");
     }
 
     @Override
@@ -91,8 +98,8 @@ public class AuthServiceImpl implements AuthService {
         PasswordResetCode resetCode = passwordResetCodeRepository.findByCode(code)
                 .orElseThrow(() -> new IllegalArgumentException("Código inválido"));
 
-        // Verificar que el código no haya expirado (15 horas)
-        if (resetCode.getCreatedAt().isBefore(LocalDateTime.now().minusMinutes(15))) {
+        // Verificar que el código no haya expirado
+        if (resetCode.getCreatedAt().isBefore(LocalDateTime.now().minus(PasswordResetCode.TTL))) {
             passwordResetCodeRepository.delete(resetCode);
             throw new IllegalArgumentException("El código ha expirado");
         }
@@ -105,7 +112,9 @@ public class AuthServiceImpl implements AuthService {
         // Actualizar contraseña
         User user = resetCode.getUser();
         user.setPassword(passwordEncoder.encode(newPassword));
+        user.revokeTokens();
         userRepository.save(user);
+        authenticationCache.evictUser(user.getEmail());
 
         // Eliminar código usado
         passwordResetCodeRepository.delete(resetCode);
@@ -137,7 +146,9 @@ public class AuthServiceImpl implements AuthService {
 
         // Actualizar contraseña
         user.setPassword(passwordEncoder.encode(newPassword));
+        user.revokeTokens();
         userRepository.save(user);
+        authenticationCache.evictUser(user.getEmail());
 
         return true;
     }
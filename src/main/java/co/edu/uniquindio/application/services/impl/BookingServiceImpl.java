@@ -1,5 +1,9 @@
 package co.edu.uniquindio.application.services.impl;
 
+import co.edu.uniquindio.application.datasource.ReadYourWritesWindow;
+import co.edu.uniquindio.application.dto.BookingExportRow;
+import co.edu.uniquindio.application.dto.BookingTransitionResult;
+import co.edu.uniquindio.application.index.AvailabilityIndex;
 import co.edu.uniquindio.application.model.Booking;
 import co.edu.uniquindio.application.model.Place;
 import co.edu.uniquindio.application.model.User;
@@ -9,6 +13,7 @@ import co.edu.uniquindio.application.repositories.PlaceRepository;
 import co.edu.uniquindio.application.repositories.ReviewRepository;
 import co.edu.uniquindio.application.services.BookingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +21,8 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +31,8 @@ public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final PlaceRepository placeRepository;
     private final ReviewRepository reviewRepository;
+    private final AvailabilityIndex availabilityIndex;
+    private final ReadYourWritesWindow readYourWritesWindow;
 
     @Override
     @Transactional
@@ -54,8 +63,11 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("El número de huéspedes debe ser mayor a 0");
         }
 
-        Place place = placeRepository.findById(booking.getPlace().getId())
+        // Bloquear el alojamiento hasta el commit: dos reservas concurrentes del mismo lugar no pueden
+        // pasar ambas la verificación de disponibilidad antes de que la otra se guarde
+        Place place = placeRepository.findByIdForUpdate(booking.getPlace().getId())
                 .orElseThrow(() -> new IllegalArgumentException("Alojamiento no encontrado"));
+        booking.setPlace(place);
 
         // Verificar disponibilidad
         if (!isPlaceAvailable(place, booking.getCheckIn(), booking.getCheckOut())) {
@@ -75,7 +87,10 @@ public class BookingServiceImpl implements BookingService {
         booking.setStatus(BookingStatus.PENDING);
         booking.setCreatedAt(LocalDateTime.now());
 
-        return bookingRepository.save(booking);
+        Booking savedBooking = bookingRepository.save(booking);
+        availabilityIndex.onBookingChanged(savedBooking);
+        readYourWritesWindow.recordWrite(savedBooking.getGuest().getId());
+        return savedBooking;
     }
 
     @Override
@@ -119,7 +134,9 @@ public class BookingServiceImpl implements BookingService {
         }
 
         booking.setStatus(status);
-        return bookingRepository.save(booking);
+        Booking savedBooking = bookingRepository.save(booking);
+        availabilityIndex.onBookingChanged(savedBooking);
+        return savedBooking;
     }
 
     @Override
@@ -147,6 +164,8 @@ public class BookingServiceImpl implements BookingService {
 
         booking.setStatus(BookingStatus.CANCELLED);
         bookingRepository.save(booking);
+        availabilityIndex.onBookingChanged(booking);
+        readYourWritesWindow.recordWrite(booking.getGuest().getId());
     }
 
     @Override
@@ -174,12 +193,29 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     @Transactional
-    public void expirePendingBookings() {
-        List<Booking> expiredBookings = getExpiredPendingBookings();
-        for (Booking booking : expiredBookings) {
-            booking.setStatus(BookingStatus.CANCELLED);
-            bookingRepository.save(booking);
+    public BookingTransitionResult expirePendingBookings(LocalDateTime createdBefore, int chunkSize) {
+        List<Long> ids = bookingRepository.findIdsByStatusAndCreatedAtBefore(
+                BookingStatus.PENDING, createdBefore, Limit.of(chunkSize));
+        return transitionStatus(ids, BookingStatus.PENDING, BookingStatus.CANCELLED);
+    }
+
+    @Override
+    @Transactional
+    public BookingTransitionResult completeFinishedBookings(LocalDateTime checkOutBefore, int chunkSize) {
+        List<Long> ids = bookingRepository.findIdsByStatusAndCheckOutBefore(
+                BookingStatus.CONFIRMED, checkOutBefore, Limit.of(chunkSize));
+        return transitionStatus(ids, BookingStatus.CONFIRMED, BookingStatus.COMPLETED);
+    }
+
+    // Un UPDATE por lote; el índice de disponibilidad libera solo las reservas que realmente cambiaron
+    private BookingTransitionResult transitionStatus(List<Long> ids, BookingStatus from, BookingStatus to) {
+        if (ids.isEmpty()) {
+            return new BookingTransitionResult(0, 0);
         }
+        int updated = bookingRepository.transitionStatus(ids, from, to);
+        List<Long> released = updated == ids.size() ? ids : bookingRepository.findIdsByIdInAndStatus(ids, to);
+        availabilityIndex.onBookingsReleased(released);
+        return new BookingTransitionResult(ids.size(), updated);
     }
 
     @Override
@@ -192,4 +228,12 @@ public class BookingServiceImpl implements BookingService {
         return reviewRepository.findAverageRatingByHostAndDateRange(host, startDate, endDate)
                 .orElse(0.0);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportBookingsByHost(User host, Consumer<BookingExportRow> consumer) {
+        try (Stream<BookingExportRow> rows = bookingRepository.streamExportRowsByHost(host)) {
+            rows.forEach(consumer);
+        }
+    }
 }
@@ -0,0 +1,153 @@
+package co.edu.uniquindio.application.services.impl;
+
+import co.edu.uniquindio.application.dto.BookingResponse;
+import co.edu.uniquindio.application.dto.CursorPage;
+import co.edu.uniquindio.application.dto.PageCursor;
+import co.edu.uniquindio.application.dto.PlaceResponse;
+import co.edu.uniquindio.application.dto.ReviewResponse;
+import co.edu.uniquindio.application.mappers.ListingMapper;
+import co.edu.uniquindio.application.model.Service;
+import co.edu.uniquindio.application.model.Status;
+import co.edu.uniquindio.application.repositories.BookingRepository;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
+import co.edu.uniquindio.application.repositories.ReviewRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.repositories.projections.PlaceImageView;
+import co.edu.uniquindio.application.repositories.projections.PlaceServiceView;
+import co.edu.uniquindio.application.services.ListingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@org.springframework.stereotype.Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ListingServiceImpl implements ListingService {
+
+    private final PlaceRepository placeRepository;
+    private final BookingRepository bookingRepository;
+    private final ReviewRepository reviewRepository;
+    private final UserRepository userRepository;
+    private final ListingMapper listingMapper;
+
+    @Override
+    public CursorPage<PlaceResponse> getActivePlaces(PageCursor cursor, int size) {
+        CursorPage<PlaceResponse> page = CursorPage.of(placeRepository.findRowsByStatus(
+                        Status.ACTIVE, cursor.createdAt(), cursor.id(), Limit.of(size + 1)).stream()
+                .map(listingMapper::toResponse).toList(), size, ListingServiceImpl::placeCursor);
+        fillPlaceCollections(page.getItems());
+        return page;
+    }
+
+    @Override
+    public CursorPage<PlaceResponse> getPlacesByHost(Long hostId, PageCursor cursor, int size) {
+        requireUser(hostId, "Anfitrión no encontrado");
+        CursorPage<PlaceResponse> page = CursorPage.of(placeRepository.findRowsByHostId(
+                        hostId, cursor.createdAt(), cursor.id(), Limit.of(size + 1)).stream()
+                .map(listingMapper::toResponse).toList(), size, ListingServiceImpl::placeCursor);
+        fillPlaceCollections(page.getItems());
+        return page;
+    }
+
+    @Override
+    public CursorPage<BookingResponse> getBookingsByGuest(Long guestId, PageCursor cursor, int size) {
+        requireUser(guestId, "Huésped no encontrado");
+        CursorPage<BookingResponse> page = CursorPage.of(bookingRepository.findRowsByGuestId(
+                        guestId, cursor.createdAt(), cursor.id(), Limit.of(size + 1)).stream()
+                .map(listingMapper::toResponse).toList(), size, ListingServiceImpl::bookingCursor);
+        fillPlaceCollections(page.getItems().stream().map(BookingResponse::getPlace).toList());
+        return page;
+    }
+
+    @Override
+    public CursorPage<BookingResponse> getBookingsByHost(Long hostId, PageCursor cursor, int size) {
+        requireUser(hostId, "Anfitrión no encontrado");
+        CursorPage<BookingResponse> page = CursorPage.of(bookingRepository.findRowsByHostId(
+                        hostId, cursor.createdAt(), cursor.id(), Limit.of(size + 1)).stream()
+                .map(listingMapper::toResponse).toList(), size, ListingServiceImpl::bookingCursor);
+        fillPlaceCollections(page.getItems().stream().map(BookingResponse::getPlace).toList());
+        return page;
+    }
+
+    @Override
+    public CursorPage<ReviewResponse> getReviewsByPlace(Long placeId, PageCursor cursor, int size) {
+        if (!placeRepository.existsById(placeId)) {
+            throw new IllegalArgumentException("Alojamiento no encontrado");
+        }
+        return reviewPage(reviewRepository.findRowsByPlaceId(
+                placeId, cursor.createdAt(), cursor.id(), Limit.of(size + 1)).stream()
+                .map(listingMapper::toResponse).toList(), size);
+    }
+
+    @Override
+    public CursorPage<ReviewResponse> getReviewsByUser(Long userId, PageCursor cursor, int size) {
+        requireUser(userId, "Usuario no encontrado");
+        return reviewPage(reviewRepository.findRowsByUserId(
+                userId, cursor.createdAt(), cursor.id(), Limit.of(size + 1)).stream()
+                .map(listingMapper::toResponse).toList(), size);
+    }
+
+    @Override
+    public CursorPage<ReviewResponse> getReviewsWithRepliesByHost(Long hostId, PageCursor cursor, int size) {
+        requireUser(hostId, "Anfitrión no encontrado");
+        return reviewPage(reviewRepository.findRowsWithRepliesByHostId(
+                hostId, cursor.createdAt(), cursor.id(), Limit.of(size + 1)).stream()
+                .map(listingMapper::toResponse).toList(), size);
+    }
+
+    @Override
+    public CursorPage<ReviewResponse> getReviewsWithoutRepliesByHost(Long hostId, PageCursor cursor, int size) {
+        requireUser(hostId, "Anfitrión no encontrado");
+        return reviewPage(reviewRepository.findRowsWithoutRepliesByHostId(
+                hostId, cursor.createdAt(), cursor.id(), Limit.of(size + 1)).stream()
+                .map(listingMapper::toResponse).toList(), size);
+    }
+
+    private CursorPage<ReviewResponse> reviewPage(List<ReviewResponse> fetched, int size) {
+        CursorPage<ReviewResponse> page = CursorPage.of(fetched, size,
+                review -> new PageCursor(review.getCreatedAt(), review.getId()));
+        fillPlaceCollections(page.getItems().stream().map(ReviewResponse::getPlace).toList());
+        return page;
+    }
+
+    private void requireUser(Long userId, String message) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    // Imágenes y servicios de todos los alojamientos de la página: una consulta por colección
+    private void fillPlaceCollections(List<PlaceResponse> places) {
+        if (places.isEmpty()) {
+            return;
+        }
+        Set<Long> placeIds = new HashSet<>();
+        for (PlaceResponse place : places) {
+            placeIds.add(place.getId());
+        }
+
+        Map<Long, List<String>> images = new HashMap<>();
+        for (PlaceImageView image : placeRepository.findImagesByPlaceIds(placeIds)) {
+            images.computeIfAbsent(image.getPlaceId(), id -> new ArrayList<>()).add(image.getUrl());
+        }
+        Map<Long, List<Service>> services = new HashMap<>();
+        for (PlaceServiceView service : placeRepository.findServicesByPlaceIds(placeIds)) {
+            services.computeIfAbsent(service.getPlaceId(), id -> new ArrayList<>()).add(service.getService());
+        }
+
+        for (PlaceResponse place : places) {
+            place.setImages(images.getOrDefault(place.getId(), new ArrayList<>()));
+            place.setServices(services.getOrDefault(place.getId(), new ArrayList<>()));
+        }
+    }
+
+    private static PageCursor placeCursor(PlaceResponse place) {
+        return new PageCursor(place.getCreatedAt(), place.getId());
+    }
+
+    private static PageCursor bookingCursor(BookingResponse booking) {
+        return new PageCursor(booking.getCreatedAt(), booking.getId());
+    }
+}
@@ -1,32 +1,95 @@
 package co.edu.uniquindio.application.services.impl;
 
+import co.edu.uniquindio.application.cache.PlaceResponseCache;
+import co.edu.uniquindio.application.dto.NearbyPlace;
+import co.edu.uniquindio.application.index.AvailabilityIndex;
+import co.edu.uniquindio.application.index.PlaceGeoIndex;
+import co.edu.uniquindio.application.index.PlaceTextIndex;
 import co.edu.uniquindio.application.model.Place;
+import co.edu.uniquindio.application.model.Service;
 import co.edu.uniquindio.application.model.Status;
 import co.edu.uniquindio.application.model.User;
 import co.edu.uniquindio.application.model.BookingStatus;
 import co.edu.uniquindio.application.repositories.BookingRepository;
 import co.edu.uniquindio.application.repositories.PlaceRepository;
+import co.edu.uniquindio.application.repositories.projections.PlaceLocationView;
+import co.edu.uniquindio.application.repositories.projections.PlaceVersionView;
 import co.edu.uniquindio.application.services.PlaceService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Service;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
-@Service
+@org.springframework.stereotype.Service
 @RequiredArgsConstructor
 public class PlaceServiceImpl implements PlaceService {
 
     private final PlaceRepository placeRepository;
     private final BookingRepository bookingRepository;
+    private final AvailabilityIndex availabilityIndex;
+    private final PlaceGeoIndex placeGeoIndex;
+    private final PlaceTextIndex placeTextIndex;
+    private final PlaceResponseCache placeResponseCache;
+    private final EntityManager entityManager;
+
+    private static final int DEFAULT_NEARBY_RESULTS = 50;
+    private static final int MAX_NEARBY_RESULTS = 200;
+    private static final int DEFAULT_TEXT_RESULTS = 20;
+    private static final int MAX_TEXT_RESULTS = 100;
+    // Igual a hibernate.jdbc.batch_size
+    private static final int IMPORT_CHUNK_SIZE = 50;
 
     @Override
     @Transactional
     public Place createPlace(Place place) {
-        // Validaciones básicas
+        validateNewPlace(place);
+
+        // Establecer valores por defecto
+        place.setStatus(Status.ACTIVE);
+        place.setCreatedAt(LocalDateTime.now());
+
+        Place savedPlace = placeRepository.save(place);
+        reindex(savedPlace);
+        return savedPlace;
+    }
+
+    // Importación masiva: se valida todo el lote antes de escribir y se guarda en bloques del tamaño
+    // del lote JDBC, vaciando el contexto de persistencia entre bloques para que no crezca con el lote
+    @Override
+    @Transactional
+    public List<Place> importPlaces(User host, List<Place> places) {
+        for (int i = 0; i < places.size(); i++) {
+            try {
+                validateNewPlace(places.get(i));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Alojamiento " + (i + 1) + ": " + ex.getMessage());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < places.size(); from += IMPORT_CHUNK_SIZE) {
+            List<Place> chunk = places.subList(from, Math.min(from + IMPORT_CHUNK_SIZE, places.size()));
+            for (Place place : chunk) {
+                place.setHost(host);
+                place.setStatus(Status.ACTIVE);
+                place.setCreatedAt(now);
+            }
+            placeRepository.saveAll(chunk);
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        places.forEach(this::reindex);
+        return places;
+    }
+
+    private void validateNewPlace(Place place) {
         if (place.getTitle() == null || place.getTitle().trim().isEmpty()) {
             throw new IllegalArgumentException("El título es requerido");
         }
@@ -54,12 +117,6 @@ public class PlaceServiceImpl implements PlaceService {
         if (place.getImages().size() > 10) {
             throw new IllegalArgumentException("No se pueden agregar más de 10 imágenes");
         }
-
-        // Establecer valores por defecto
-        place.setStatus(Status.ACTIVE);
-        place.setCreatedAt(LocalDateTime.now());
-
-        return placeRepository.save(place);
     }
 
     @Override
@@ -68,18 +125,28 @@ public class PlaceServiceImpl implements PlaceService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Optional<PlaceVersionView> getPlaceVersion(Long id) {
+        return placeRepository.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Place> getPlacesByHost(User host) {
         return placeRepository.findByHost(host);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Place> getPlacesByCity(String city) {
         return placeRepository.findByAddressCityIgnoreCase(city);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Place> getAvailablePlaces(String city, LocalDateTime checkIn, LocalDateTime checkOut,
-                                          Integer guests, Double minPrice, Double maxPrice) {
+                                          Integer guests, Double minPrice, Double maxPrice, Double minRating,
+                                          List<Service> allServices, List<Service> anyServices) {
         // Validar fechas
         if (checkIn == null || checkOut == null) {
             throw new IllegalArgumentException("Las fechas de check-in y check-out son requeridas");
@@ -97,15 +164,40 @@ public class PlaceServiceImpl implements PlaceService {
             throw new IllegalArgumentException("El número de huéspedes debe ser mayor a 0");
         }
 
-        return placeRepository.findAvailablePlaces(
-                city, checkIn, checkOut, guests,
-                minPrice != null ? minPrice : 0.0,
-                maxPrice != null ? maxPrice : Double.MAX_VALUE,
-                Status.ACTIVE
-        );
+        if (minRating != null && (minRating < 0 || minRating > 5)) {
+            throw new IllegalArgumentException("La calificación mínima debe estar entre 0 y 5");
+        }
+
+        Double min = minPrice != null ? minPrice : 0.0;
+        Double max = maxPrice != null ? maxPrice : Double.MAX_VALUE;
+        long allOf = Service.toMask(allServices);
+        long anyOf = Service.toMask(anyServices);
+
+        // Mientras el índice no esté cargado se usa la consulta completa
+        if (!availabilityIndex.isReady()) {
+            return placeRepository.findAvailablePlaces(city, checkIn, checkOut, guests, min, max, minRating,
+                    allOf, anyOf, Status.ACTIVE);
+        }
+
+        List<Place> candidates = placeRepository.findSearchCandidates(city, guests, min, max, minRating,
+                allOf, anyOf, Status.ACTIVE);
+        List<Place> available = availabilityIndex.filterAvailable(candidates, Place::getId, checkIn, checkOut);
+        if (available.isEmpty()) {
+            return available;
+        }
+
+        // Confirmar en base de datos solo los candidatos finales
+        Set<Long> conflicting = new HashSet<>(bookingRepository.findConflictingPlaceIds(
+                available.stream().map(Place::getId).toList(),
+                checkIn, checkOut, AvailabilityIndex.ACTIVE_STATUSES));
+
+        return available.stream()
+                .filter(place -> !conflicting.contains(place.getId()))
+                .toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Place> getPlacesByPriceRange(Double minPrice, Double maxPrice) {
         if (minPrice == null) minPrice = 0.0;
         if (maxPrice == null) maxPrice = Double.MAX_VALUE;
@@ -121,6 +213,97 @@ public class PlaceServiceImpl implements PlaceService {
         return placeRepository.findByNightlyPriceBetweenAndStatus(minPrice, maxPrice, Status.ACTIVE);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<NearbyPlace> getPlacesNear(Double latitude, Double longitude, Double radiusKm,
+                                           List<Service> allServices, List<Service> anyServices, Integer limit) {
+        if (latitude == null || latitude < -90 || latitude > 90) {
+            throw new IllegalArgumentException("La latitud debe estar entre -90 y 90");
+        }
+
+        if (longitude == null || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("La longitud debe estar entre -180 y 180");
+        }
+
+        if (radiusKm == null || radiusKm <= 0 || radiusKm > PlaceGeoIndex.MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("El radio debe ser mayor a 0 y máximo " + PlaceGeoIndex.MAX_RADIUS_KM + " km");
+        }
+
+        int maxResults = limit != null ? limit : DEFAULT_NEARBY_RESULTS;
+        if (maxResults <= 0 || maxResults > MAX_NEARBY_RESULTS) {
+            throw new IllegalArgumentException("El límite debe estar entre 1 y " + MAX_NEARBY_RESULTS);
+        }
+
+        long allOf = Service.toMask(allServices);
+        long anyOf = Service.toMask(anyServices);
+        List<PlaceGeoIndex.Hit> hits = placeGeoIndex.isReady()
+                ? placeGeoIndex.findWithin(latitude, longitude, radiusKm, allOf, anyOf, maxResults)
+                : findWithinFromDatabase(latitude, longitude, radiusKm, allOf, anyOf, maxResults);
+
+        Map<Long, Place> places = placeRepository.findAllById(hits.stream().map(PlaceGeoIndex.Hit::placeId).toList())
+                .stream()
+                .collect(Collectors.toMap(Place::getId, Function.identity()));
+
+        // El orden por distancia lo define el índice
+        return hits.stream()
+                .filter(hit -> places.containsKey(hit.placeId()))
+                .map(hit -> new NearbyPlace(places.get(hit.placeId()), hit.distanceKm()))
+                .filter(nearby -> nearby.place().getStatus() == Status.ACTIVE)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Place> searchPlacesByText(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("La búsqueda requiere al menos una palabra");
+        }
+
+        int maxResults = limit != null ? limit : DEFAULT_TEXT_RESULTS;
+        if (maxResults <= 0 || maxResults > MAX_TEXT_RESULTS) {
+            throw new IllegalArgumentException("El límite debe estar entre 1 y " + MAX_TEXT_RESULTS);
+        }
+
+        // Mientras el índice no esté cargado: coincidencia literal en base de datos, sin relevancia
+        if (!placeTextIndex.isReady()) {
+            return placeRepository.searchByKeyword(query.trim(), Status.ACTIVE, Limit.of(maxResults));
+        }
+
+        List<Long> ids = placeTextIndex.search(query, maxResults);
+        Map<Long, Place> places = placeRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Place::getId, Function.identity()));
+
+        // El orden por relevancia lo define el índice
+        return ids.stream()
+                .map(places::get)
+                .filter(place -> place != null && place.getStatus() == Status.ACTIVE)
+                .toList();
+    }
+
+    // Mantiene sincronizados los índices en memoria y la caché de detalle tras cambios de datos o de estado
+    private void reindex(Place place) {
+        placeGeoIndex.onPlaceChanged(place);
+        placeTextIndex.onPlaceChanged(place);
+        placeResponseCache.evict(place.getId());
+    }
+
+    // Mientras el índice no esté cargado: franja de latitud en base de datos y distancia en memoria
+    private List<PlaceGeoIndex.Hit> findWithinFromDatabase(double latitude, double longitude, double radiusKm,
+                                                           long allOf, long anyOf, int limit) {
+        PlaceGeoIndex.BoundingBox box = PlaceGeoIndex.BoundingBox.around(latitude, longitude, radiusKm);
+        List<PlaceLocationView> locations = placeRepository.findLocationsInLatitudeRange(
+                box.minLatitude(), box.maxLatitude(), Status.ACTIVE);
+
+        return locations.stream()
+                .filter(location -> Service.matches(location.getServicesMask(), allOf, anyOf))
+                .map(location -> new PlaceGeoIndex.Hit(location.getId(), PlaceGeoIndex.distanceKm(
+                        latitude, longitude, location.getLatitude(), location.getLongitude())))
+                .filter(hit -> hit.distanceKm() <= radiusKm)
+                .sorted(Comparator.comparingDouble(PlaceGeoIndex.Hit::distanceKm).thenComparing(PlaceGeoIndex.Hit::placeId))
+                .limit(limit)
+                .toList();
+    }
+
     @Override
     @Transactional
     public Place updatePlace(Long id, Place placeDetails) {
@@ -153,7 +336,9 @@ public class PlaceServiceImpl implements PlaceService {
             existingPlace.setServices(placeDetails.getServices());
         }
 
-        return placeRepository.save(existingPlace);
+        Place savedPlace = placeRepository.save(existingPlace);
+        reindex(savedPlace);
+        return savedPlace;
     }
 
     @Override
@@ -165,6 +350,7 @@ public class PlaceServiceImpl implements PlaceService {
         // Soft delete - cambiar estado a INACTIVE
         place.setStatus(Status.INACTIVE);
         placeRepository.save(place);
+        reindex(place);
     }
 
     @Override
@@ -174,7 +360,9 @@ public class PlaceServiceImpl implements PlaceService {
                 .orElseThrow(() -> new IllegalArgumentException("Alojamiento no encontrado"));
 
         place.setStatus(Status.ACTIVE);
-        return placeRepository.save(place);
+        Place savedPlace = placeRepository.save(place);
+        reindex(savedPlace);
+        return savedPlace;
     }
 
     @Override
@@ -184,7 +372,9 @@ public class PlaceServiceImpl implements PlaceService {
                 .orElseThrow(() -> new IllegalArgumentException("Alojamiento no encontrado"));
 
         place.setStatus(Status.INACTIVE);
-        return placeRepository.save(place);
+        Place savedPlace = placeRepository.save(place);
+        reindex(savedPlace);
+        return savedPlace;
     }
 
     @Override
@@ -211,6 +401,7 @@ public class PlaceServiceImpl implements PlaceService {
 
         place.addImage(imageUrl);
         placeRepository.save(place);
+        placeResponseCache.evict(placeId);
     }
 
     @Override
@@ -228,11 +419,13 @@ public class PlaceServiceImpl implements PlaceService {
             }
 
             placeRepository.save(place);
+            placeResponseCache.evict(placeId);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public long countPlacesByHost(User host) {
         return placeRepository.countByHost(host);
     }
-}
\ No newline at end of file
+}
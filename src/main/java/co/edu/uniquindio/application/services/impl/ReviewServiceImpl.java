@@ -1,5 +1,7 @@
 package co.edu.uniquindio.application.services.impl;
 
+import co.edu.uniquindio.application.cache.PlaceResponseCache;
+import co.edu.uniquindio.application.datasource.ReadYourWritesWindow;
 import co.edu.uniquindio.application.model.Review;
 import co.edu.uniquindio.application.model.User;
 import co.edu.uniquindio.application.model.Place;
@@ -7,6 +9,7 @@ import co.edu.uniquindio.application.model.Reply;
 import co.edu.uniquindio.application.model.Booking;
 import co.edu.uniquindio.application.model.BookingStatus;
 import co.edu.uniquindio.application.repositories.BookingRepository;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
 import co.edu.uniquindio.application.repositories.ReviewRepository;
 import co.edu.uniquindio.application.services.ReviewService;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +26,9 @@ public class ReviewServiceImpl implements ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final BookingRepository bookingRepository;
+    private final PlaceRepository placeRepository;
+    private final PlaceResponseCache placeResponseCache;
+    private final ReadYourWritesWindow readYourWritesWindow;
 
     @Override
     @Transactional
@@ -53,7 +59,10 @@ public class ReviewServiceImpl implements ReviewService {
         // Establecer valores por defecto
         review.setCreatedAt(LocalDateTime.now());
 
-        return reviewRepository.save(review);
+        Review savedReview = reviewRepository.save(review);
+        applyReviewChange(savedReview.getPlace(), savedReview.getRating(), 1);
+        readYourWritesWindow.recordWrite(savedReview.getUser().getId());
+        return savedReview;
     }
 
     @Override
@@ -62,11 +71,13 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Review> getReviewsByUser(User user) {
         return reviewRepository.findByUser(user);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Review> getReviewsByPlace(Place place) {
         return reviewRepository.findByPlaceOrderByCreatedAtDesc(place);
     }
@@ -83,10 +94,12 @@ public class ReviewServiceImpl implements ReviewService {
                 .orElseThrow(() -> new IllegalArgumentException("Reseña no encontrada"));
 
         // Solo permitir actualizar rating y comment
+        int ratingDelta = 0;
         if (reviewDetails.getRating() != null) {
             if (reviewDetails.getRating() < 1 || reviewDetails.getRating() > 5) {
                 throw new IllegalArgumentException("La calificación debe estar entre 1 y 5");
             }
+            ratingDelta = reviewDetails.getRating() - existingReview.getRating();
             existingReview.setRating(reviewDetails.getRating());
         }
 
@@ -94,7 +107,10 @@ public class ReviewServiceImpl implements ReviewService {
             existingReview.setComment(reviewDetails.getComment());
         }
 
-        return reviewRepository.save(existingReview);
+        Review savedReview = reviewRepository.save(existingReview);
+        applyReviewChange(savedReview.getPlace(), ratingDelta, 0);
+        readYourWritesWindow.recordWrite(savedReview.getUser().getId());
+        return savedReview;
     }
 
     @Override
@@ -104,6 +120,8 @@ public class ReviewServiceImpl implements ReviewService {
                 .orElseThrow(() -> new IllegalArgumentException("Reseña no encontrada"));
 
         reviewRepository.delete(review);
+        applyReviewChange(review.getPlace(), -review.getRating(), -1);
+        readYourWritesWindow.recordWrite(review.getUser().getId());
     }
 
     @Override
@@ -127,30 +145,38 @@ public class ReviewServiceImpl implements ReviewService {
         reply.setRepliedAt(LocalDateTime.now());
 
         review.setReply(reply);
-        return reviewRepository.save(review);
+        Review savedReview = reviewRepository.save(review);
+        applyReviewChange(savedReview.getPlace(), 0, 0);
+        readYourWritesWindow.recordWrite(host.getId());
+        return savedReview;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Double getAverageRatingByPlace(Place place) {
         return reviewRepository.findAverageRatingByPlace(place).orElse(0.0);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public long getReviewCountByPlace(Place place) {
         return reviewRepository.countByPlace(place);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Review> getReviewsWithRepliesByHost(User host) {
         return reviewRepository.findReviewsWithRepliesByHost(host);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Review> getReviewsWithoutRepliesByHost(User host) {
         return reviewRepository.findReviewsWithoutRepliesByHost(host);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean canUserReviewPlace(User user, Place place) {
         // Verificar que el usuario tiene una reserva COMPLETADA en este alojamiento
         // con fecha de check-out en el pasado
@@ -162,4 +188,13 @@ public class ReviewServiceImpl implements ReviewService {
                                 booking.getCheckOut().isBefore(LocalDateTime.now())
                 );
     }
+
+    // Mantiene ratingSum/ratingCount y la revisión de reseñas del alojamiento en la misma transacción
+    // que la reseña. Se llama en toda escritura (también respuestas y cambios de comentario) para
+    // que cambie el ETag de las lecturas de reseñas.
+    private void applyReviewChange(Place place, long sumDelta, long countDelta) {
+        placeRepository.applyRatingDelta(place.getId(), sumDelta, countDelta);
+        place.applyRatingDelta(sumDelta, countDelta);
+        placeResponseCache.evict(place.getId());
+    }
 }
@@ -1,11 +1,13 @@
 package co.edu.uniquindio.application.services.impl;
 
+import co.edu.uniquindio.application.cache.PlaceResponseCache;
 import co.edu.uniquindio.application.model.Role;
 import co.edu.uniquindio.application.model.Status;
 import co.edu.uniquindio.application.model.HostProfile;
 import co.edu.uniquindio.application.model.User;
 import co.edu.uniquindio.application.repositories.HostProfileRepository;
 import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.security.AuthenticationCache;
 import co.edu.uniquindio.application.services.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,8 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final HostProfileRepository hostProfileRepository;
+    private final AuthenticationCache authenticationCache;
+    private final PlaceResponseCache placeResponseCache;
 
     @Override
     @Transactional
@@ -83,6 +87,16 @@ public class UserServiceImpl implements UserService {
             throw new IllegalArgumentException("El email ya está en uso por otro usuario");
         }
 
+        // El principal en caché se indexa por email: invalidar antes de un posible cambio
+        authenticationCache.evictUser(existingUser.getEmail());
+        // Los datos del anfitrión forman parte del detalle de sus alojamientos
+        placeResponseCache.evictByHost(existingUser.getId());
+
+        // El email es el sujeto del JWT: un cambio revoca los tokens emitidos
+        if (userDetails.getEmail() != null && !userDetails.getEmail().equals(existingUser.getEmail())) {
+            existingUser.revokeTokens();
+        }
+
         // Actualizar campos permitidos
         if (userDetails.getName() != null) {
             existingUser.setName(userDetails.getName());
@@ -111,7 +125,10 @@ public class UserServiceImpl implements UserService {
 
         // Soft delete - cambiar estado a INACTIVE
         user.setStatus(Status.INACTIVE);
+        user.revokeTokens();
         userRepository.save(user);
+        authenticationCache.evictUser(user.getEmail());
+        placeResponseCache.evictByHost(user.getId());
     }
 
     @Override
@@ -121,6 +138,8 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
 
         user.setStatus(Status.ACTIVE);
+        authenticationCache.evictUser(user.getEmail());
+        placeResponseCache.evictByHost(user.getId());
         return userRepository.save(user);
     }
 
@@ -131,6 +150,9 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado"));
 
         user.setStatus(Status.INACTIVE);
+        user.revokeTokens();
+        authenticationCache.evictUser(user.getEmail());
+        placeResponseCache.evictByHost(user.getId());
         return userRepository.save(user);
     }
 
@@ -160,6 +182,10 @@ public class UserServiceImpl implements UserService {
         user.setRole(Role.HOST);
         user.setIsHost(true);
         user.setHostProfile(hostProfile);
+        user.revokeTokens();
+
+        // Cambia el rol: las autoridades en caché quedan obsoletas
+        authenticationCache.evictUser(user.getEmail());
 
         return userRepository.save(user);
     }
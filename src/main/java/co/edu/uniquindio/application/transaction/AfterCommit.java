@@ -0,0 +1,54 @@
+package co.edu.uniquindio.application.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Acciones que solo deben verse cuando el cambio ya es visible para otras transacciones
+// (índices en memoria, cachés, entregas asíncronas). Si la transacción se revierte no se ejecutan;
+// onRollback cubre el caso contrario (devolver algo reservado antes del commit).
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    // Sin transacción con sincronización activa se ejecuta de inmediato
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Se ejecuta solo si la transacción en curso se confirma. Sin transacción no hace nada
+    // (para quien ya aplicó la acción de inmediato y solo necesita repetirla tras el commit)
+    public static void onCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    // Se ejecuta si la transacción en curso termina sin confirmarse. Sin transacción no hace nada
+    public static void onRollback(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.model.Role;
+import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.security.AuthenticatedUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Con la cadena de seguridad completa: las métricas de Actuator solo las puede leer un administrador.
+// AutoConfigureObservability habilita el registro Prometheus, que los tests desactivan por defecto
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:actuatorsecurity;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheus_SinAutenticar_DebeRechazarse() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void prometheus_Anfitrion_DebeRechazarse() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(authentication(as(1L, Role.HOST))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void prometheus_Administrador_DebeExponerMetricas() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(authentication(as(2L, Role.ADMIN))))
+                .andExpect(status().isOk());
+    }
+
+    private static UsernamePasswordAuthenticationToken as(Long id, Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("actuator" + id + "@test.com");
+        user.setRole(role);
+        AuthenticatedUser principal = AuthenticatedUser.from(user);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+}
@@ -0,0 +1,70 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.transaction.AfterCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AfterCommitTest {
+
+    private final List<String> executed = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void run_SinTransaccion_DebeEjecutarDeInmediato() {
+        // When
+        AfterCommit.run(() -> executed.add("accion"));
+
+        // Then
+        assertEquals(List.of("accion"), executed);
+    }
+
+    @Test
+    void run_ConTransaccion_DebeEsperarAlCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        AfterCommit.run(() -> executed.add("accion"));
+        assertTrue(executed.isEmpty());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertEquals(List.of("accion"), executed);
+    }
+
+    @Test
+    void onCommit_SinTransaccion_NoDebeEjecutar() {
+        // When
+        AfterCommit.onCommit(() -> executed.add("accion"));
+
+        // Then
+        assertTrue(executed.isEmpty());
+    }
+
+    @Test
+    void onCommit_ConTransaccion_DebeEjecutarTrasElCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        AfterCommit.onCommit(() -> executed.add("accion"));
+        assertTrue(executed.isEmpty());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertEquals(List.of("accion"), executed);
+    }
+}
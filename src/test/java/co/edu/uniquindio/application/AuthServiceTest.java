@@ -1,6 +1,9 @@
 package co.edu.uniquindio.application;
 
+import co.edu.uniquindio.application.exceptions.RateLimitExceededException;
+import co.edu.uniquindio.application.mail.EmailOutbox;
 import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.repositories.PasswordResetCodeRepository;
 import co.edu.uniquindio.application.repositories.UserRepository;
 import co.edu.uniquindio.application.services.impl.AuthServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +13,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -21,6 +25,12 @@ class AuthServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PasswordResetCodeRepository passwordResetCodeRepository;
+
+    @Mock
+    private EmailOutbox emailOutbox;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -74,5 +84,15 @@ class AuthServiceTest {
     void validatePassword_ContraseñaInvalida_DebeRetornarFalse() {
         assertFalse(authService.validatePassword("123"));
     }
-}
 
+    @Test
+    void requestPasswordReset_LimiteExcedido_NoDebeTocarLaBaseDeDatos() {
+        doThrow(new RateLimitExceededException("Demasiadas solicitudes", Duration.ofMinutes(5)))
+                .when(emailOutbox).reserve("test@email.com");
+
+        assertThrows(RateLimitExceededException.class, () -> authService.requestPasswordReset("test@email.com"));
+
+        verifyNoInteractions(userRepository, passwordResetCodeRepository);
+        verify(emailOutbox, never()).enqueue(anyString(), anyString(), anyString());
+    }
+}
@@ -0,0 +1,183 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.cache.PlaceResponseCache;
+import co.edu.uniquindio.application.mail.EmailOutbox;
+import co.edu.uniquindio.application.model.Role;
+import co.edu.uniquindio.application.model.Status;
+import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.repositories.HostProfileRepository;
+import co.edu.uniquindio.application.repositories.PasswordResetCodeRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.security.AuthenticatedUser;
+import co.edu.uniquindio.application.security.AuthenticationCache;
+import co.edu.uniquindio.application.security.JwtClaims;
+import co.edu.uniquindio.application.services.impl.AuthServiceImpl;
+import co.edu.uniquindio.application.services.impl.UserServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AuthenticationCacheTest {
+
+    private AtomicInteger loads;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        loads = new AtomicInteger();
+        user = new User();
+        user.setId(1L);
+        user.setEmail("juan@test.com");
+        user.setPassword("hash-actual");
+        user.setRole(Role.GUEST);
+        user.setStatus(Status.ACTIVE);
+        user.setIsHost(false);
+    }
+
+    @Test
+    void getPrincipal_LecturasRepetidas_DebeCargarUnaVez() {
+        // Given
+        AuthenticationCache cache = new AuthenticationCache(Duration.ofMinutes(5), 100);
+
+        // When
+        cache.getPrincipal("juan@test.com", this::load);
+        cache.getPrincipal("juan@test.com", this::load);
+
+        // Then
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void getPrincipal_TtlVencido_DebeRecargarDesdeElCargador() throws InterruptedException {
+        // Given
+        AuthenticationCache cache = new AuthenticationCache(Duration.ofMillis(50), 100);
+        cache.getPrincipal("juan@test.com", this::load);
+
+        // When
+        Thread.sleep(120);
+        cache.getPrincipal("juan@test.com", this::load);
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getPrincipal_MasUsuariosQueElTamanoMaximo_DebeDescartarEntradas() throws InterruptedException {
+        // Given
+        AuthenticationCache cache = new AuthenticationCache(Duration.ofMinutes(5), 1);
+        cache.getPrincipal("a@test.com", this::load);
+        cache.getPrincipal("b@test.com", this::load);
+        cache.getPrincipal("c@test.com", this::load);
+
+        // When: Caffeine aplica el límite de forma asíncrona, se consulta hasta que se note el descarte
+        long deadline = System.currentTimeMillis() + 5000;
+        while (loads.get() == 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            cache.getPrincipal("a@test.com", this::load);
+            cache.getPrincipal("b@test.com", this::load);
+            cache.getPrincipal("c@test.com", this::load);
+        }
+
+        // Then
+        assertTrue(loads.get() > 3);
+    }
+
+    @Test
+    void evictUser_UsuarioCacheado_DebeInvalidarPrincipalVersionYTokens() {
+        // Given
+        AuthenticationCache cache = new AuthenticationCache(Duration.ofMinutes(5), 100);
+        AtomicInteger parses = new AtomicInteger();
+        AtomicInteger versionLoads = new AtomicInteger();
+        cache.getPrincipal("juan@test.com", this::load);
+        cache.getTokenVersion("juan@test.com", email -> (long) versionLoads.incrementAndGet());
+        cache.getTokenClaims("token", token -> claims(parses));
+
+        // When
+        cache.evictUser("juan@test.com");
+        cache.getPrincipal("juan@test.com", this::load);
+        cache.getTokenVersion("juan@test.com", email -> (long) versionLoads.incrementAndGet());
+        cache.getTokenClaims("token", token -> claims(parses));
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals(2, versionLoads.get());
+        assertEquals(2, parses.get());
+    }
+
+    @Test
+    void deactivateUser_PrincipalCacheado_DebeInvalidarlo() {
+        // Given
+        AuthenticationCache cache = new AuthenticationCache(Duration.ofMinutes(5), 100);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        UserServiceImpl userService = new UserServiceImpl(userRepository, mock(HostProfileRepository.class), cache,
+                mock(PlaceResponseCache.class));
+        cache.getPrincipal("juan@test.com", this::load);
+
+        // When
+        userService.deactivateUser(1L);
+
+        // Then
+        assertEquals(Status.INACTIVE, cache.getPrincipal("juan@test.com", this::load).status());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void deleteUser_PrincipalCacheado_DebeInvalidarlo() {
+        // Given
+        AuthenticationCache cache = new AuthenticationCache(Duration.ofMinutes(5), 100);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        UserServiceImpl userService = new UserServiceImpl(userRepository, mock(HostProfileRepository.class), cache,
+                mock(PlaceResponseCache.class));
+        cache.getPrincipal("juan@test.com", this::load);
+
+        // When
+        userService.deleteUser(1L);
+
+        // Then
+        assertEquals(Status.INACTIVE, cache.getPrincipal("juan@test.com", this::load).status());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void changePassword_PrincipalCacheado_DebeInvalidarlo() {
+        // Given
+        AuthenticationCache cache = new AuthenticationCache(Duration.ofMinutes(5), 100);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.matches("Actual123", "hash-actual")).thenReturn(true);
+        when(passwordEncoder.matches("Nueva1234", "hash-actual")).thenReturn(false);
+        when(passwordEncoder.encode("Nueva1234")).thenReturn("hash-nueva");
+        AuthServiceImpl authService = new AuthServiceImpl(userRepository, mock(PasswordResetCodeRepository.class),
+                passwordEncoder, cache, mock(EmailOutbox.class));
+        cache.getPrincipal("juan@test.com", this::load);
+
+        // When
+        authService.changePassword(1L, "Actual123", "Nueva1234");
+        cache.getPrincipal("juan@test.com", this::load);
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    private AuthenticatedUser load(String email) {
+        loads.incrementAndGet();
+        return AuthenticatedUser.from(user);
+    }
+
+    private JwtClaims claims(AtomicInteger parses) {
+        parses.incrementAndGet();
+        return new JwtClaims("juan@test.com", new Date(System.currentTimeMillis() + 60000), "GUEST",
+                1L, false, 0L);
+    }
+}
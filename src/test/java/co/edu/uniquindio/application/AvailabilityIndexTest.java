@@ -0,0 +1,98 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.index.AvailabilityIndex;
+import co.edu.uniquindio.application.model.Booking;
+import co.edu.uniquindio.application.model.BookingStatus;
+import co.edu.uniquindio.application.model.Place;
+import co.edu.uniquindio.application.repositories.BookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityIndexTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @InjectMocks
+    private AvailabilityIndex availabilityIndex;
+
+    private Place place;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        place = new Place();
+        place.setId(1L);
+        base = LocalDateTime.now().plusDays(10).withNano(0);
+    }
+
+    @Test
+    void isAvailable_ReservaQueContieneElRango_DebeRetornarFalse() {
+        // Given
+        availabilityIndex.onBookingChanged(booking(1L, base, base.plusDays(10), BookingStatus.CONFIRMED));
+
+        // When / Then
+        assertFalse(availabilityIndex.isAvailable(1L, base.plusDays(2), base.plusDays(3)));
+        assertFalse(availabilityIndex.isAvailable(1L, base.minusDays(1), base.plusDays(1)));
+        assertFalse(availabilityIndex.isAvailable(1L, base.plusDays(9), base.plusDays(12)));
+    }
+
+    @Test
+    void isAvailable_RangosContiguos_DebeRetornarTrue() {
+        // Given
+        availabilityIndex.onBookingChanged(booking(1L, base, base.plusDays(3), BookingStatus.PENDING));
+
+        // When / Then
+        assertTrue(availabilityIndex.isAvailable(1L, base.plusDays(3), base.plusDays(5)));
+        assertTrue(availabilityIndex.isAvailable(1L, base.minusDays(2), base));
+        assertTrue(availabilityIndex.isAvailable(2L, base, base.plusDays(3)));
+    }
+
+    @Test
+    void onBookingChanged_ReservaCancelada_DebeLiberarFranja() {
+        // Given
+        Booking booking = booking(1L, base, base.plusDays(3), BookingStatus.PENDING);
+        availabilityIndex.onBookingChanged(booking);
+
+        // When
+        booking.setStatus(BookingStatus.CANCELLED);
+        availabilityIndex.onBookingChanged(booking);
+
+        // Then
+        assertTrue(availabilityIndex.isAvailable(1L, base, base.plusDays(3)));
+    }
+
+    @Test
+    void onBookingsReleased_ReservasExpiradas_DebeLiberarFranjas() {
+        // Given
+        availabilityIndex.onBookingChanged(booking(1L, base, base.plusDays(3), BookingStatus.PENDING));
+        availabilityIndex.onBookingChanged(booking(2L, base.plusDays(5), base.plusDays(6), BookingStatus.PENDING));
+
+        // When
+        availabilityIndex.onBookingsReleased(List.of(1L));
+
+        // Then
+        assertTrue(availabilityIndex.isAvailable(1L, base, base.plusDays(3)));
+        assertFalse(availabilityIndex.isAvailable(1L, base.plusDays(5), base.plusDays(6)));
+    }
+
+    private Booking booking(Long id, LocalDateTime checkIn, LocalDateTime checkOut, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setPlace(place);
+        booking.setCheckIn(checkIn);
+        booking.setCheckOut(checkOut);
+        booking.setStatus(status);
+        return booking;
+    }
+}
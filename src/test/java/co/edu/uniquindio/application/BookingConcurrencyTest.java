@@ -0,0 +1,125 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.datasource.ReadYourWritesWindow;
+import co.edu.uniquindio.application.index.AvailabilityIndex;
+import co.edu.uniquindio.application.model.*;
+import co.edu.uniquindio.application.repositories.BookingRepository;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.BookingService;
+import co.edu.uniquindio.application.services.impl.BookingServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static co.edu.uniquindio.application.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Prueba de estrés: cientos de reservas concurrentes sobre un mismo alojamiento no deben solaparse.
+// Esperas holgadas (pool y bloqueo de H2) para que el resultado no dependa de la velocidad de la máquina
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bookings;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.datasource.hikari.connection-timeout=30000",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BookingServiceImpl.class, AvailabilityIndex.class, ReadYourWritesWindow.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookingConcurrencyTest {
+
+    private static final int REQUESTS = 300;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void createBooking_ReservasConcurrentes_NoDebePermitirSolapamientos() throws Exception {
+        // Given
+        User host = userRepository.save(user("host@test.com", Role.HOST));
+        User guest = userRepository.save(user("guest@test.com", Role.GUEST));
+        Place place = placeRepository.save(place(host));
+
+        LocalDateTime base = LocalDateTime.now().plusDays(30).withHour(15).withMinute(0).withSecond(0).withNano(0);
+        Random random = new Random(42);
+        List<Callable<Void>> requests = new ArrayList<>();
+        AtomicInteger rejected = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            LocalDateTime checkIn = base.plusDays(random.nextInt(60));
+            LocalDateTime checkOut = checkIn.plusDays(1 + random.nextInt(5));
+            requests.add(() -> {
+                try {
+                    bookingService.createBooking(booking(place, guest, checkIn, checkOut));
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                }
+                return null;
+            });
+        }
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<Void> future : executor.invokeAll(requests)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertTrue(unexpected.isEmpty(), () -> "Errores inesperados: " + unexpected);
+
+        List<Booking> accepted = bookingRepository.findByPlace(place);
+        assertFalse(accepted.isEmpty());
+        assertEquals(REQUESTS, accepted.size() + rejected.get());
+
+        accepted.sort(Comparator.comparing(Booking::getCheckIn));
+        for (int i = 1; i < accepted.size(); i++) {
+            Booking previous = accepted.get(i - 1);
+            Booking current = accepted.get(i);
+            assertFalse(current.getCheckIn().isBefore(previous.getCheckOut()),
+                    () -> "Reservas solapadas: " + previous.getId() + " y " + current.getId());
+        }
+    }
+
+    private Booking booking(Place place, User guest, LocalDateTime checkIn, LocalDateTime checkOut) {
+        Place reference = new Place();
+        reference.setId(place.getId());
+
+        Booking booking = new Booking();
+        booking.setPlace(reference);
+        booking.setGuest(guest);
+        booking.setCheckIn(checkIn);
+        booking.setCheckOut(checkOut);
+        booking.setGuestCount(2);
+        return booking;
+    }
+}
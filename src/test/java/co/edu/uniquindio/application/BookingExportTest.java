@@ -0,0 +1,160 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.controllers.BookingController;
+import co.edu.uniquindio.application.dto.BookingExportRow;
+import co.edu.uniquindio.application.exceptions.RestExceptionHandler;
+import co.edu.uniquindio.application.mappers.BookingMapper;
+import co.edu.uniquindio.application.model.BookingStatus;
+import co.edu.uniquindio.application.model.Role;
+import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.security.AuthenticatedUser;
+import co.edu.uniquindio.application.services.BookingService;
+import co.edu.uniquindio.application.services.ListingService;
+import co.edu.uniquindio.application.services.PlaceService;
+import co.edu.uniquindio.application.services.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class BookingExportTest {
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private ListingService listingService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private PlaceService placeService;
+
+    @Mock
+    private BookingMapper bookingMapper;
+
+    private MockMvc mockMvc;
+    private User host;
+
+    @BeforeEach
+    void setUp() {
+        BookingController controller = new BookingController(bookingService, listingService, userService,
+                placeService, bookingMapper, new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new RestExceptionHandler())
+                .build();
+
+        host = user(2L, Role.HOST);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void exportBookingsByHost_Csv_DebeEscaparCeldasYDejarVaciosLosNulos() throws Exception {
+        // Given
+        authenticate(host);
+        when(userService.getUserById(2L)).thenReturn(Optional.of(host));
+        LocalDateTime checkIn = LocalDateTime.of(2026, 10, 1, 15, 0);
+        BookingExportRow complete = new BookingExportRow(10L, checkIn, checkIn.plusDays(2), 2, 250000.0,
+                BookingStatus.COMPLETED, checkIn.minusDays(7), 5L, "Ana \"Anita\" Pérez", "ana@test.com",
+                7L, "Cabaña, vista al lago");
+        BookingExportRow partial = new BookingExportRow(11L, checkIn, checkIn.plusDays(1), null, null,
+                BookingStatus.PENDING, checkIn.minusDays(1), 6L, null, "luis@test.com", 7L, "Casa");
+        doAnswer(invocation -> {
+            Consumer<BookingExportRow> consumer = invocation.getArgument(1);
+            consumer.accept(complete);
+            consumer.accept(partial);
+            return null;
+        }).when(bookingService).exportBookingsByHost(eq(host), any());
+
+        // When
+        String body = export(2L);
+
+        // Then
+        String[] lines = body.split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("id,checkIn,checkOut,guestCount,price,status,createdAt,guestId,guestName,guestEmail,placeId,placeTitle",
+                lines[0]);
+        assertEquals("10,2026-10-01T15:00,2026-10-03T15:00,2,250000.0,COMPLETED,2026-09-24T15:00,5,"
+                + "\"Ana \"\"Anita\"\" Pérez\",ana@test.com,7,\"Cabaña, vista al lago\"", lines[1]);
+        assertEquals("11,2026-10-01T15:00,2026-10-02T15:00,,,PENDING,2026-09-30T15:00,6,,luis@test.com,7,Casa",
+                lines[2]);
+        assertFalse(body.contains("null"));
+    }
+
+    @Test
+    void exportBookingsByHost_OtroAnfitrion_DebeResponder403() throws Exception {
+        // Given
+        authenticate(user(3L, Role.HOST));
+
+        // When / Then
+        mockMvc.perform(get("/api/bookings/host/2/export").param("format", "csv"))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(userService, bookingService);
+    }
+
+    @Test
+    void exportBookingsByHost_Administrador_DebePoderExportar() throws Exception {
+        // Given
+        authenticate(user(1L, Role.ADMIN));
+        when(userService.getUserById(2L)).thenReturn(Optional.of(host));
+
+        // When
+        String body = export(2L);
+
+        // Then: solo la cabecera
+        assertEquals(1, body.split("\n").length);
+        verify(bookingService).exportBookingsByHost(eq(host), any());
+    }
+
+    private String export(Long hostId) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/bookings/host/" + hostId + "/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private static void authenticate(User user) {
+        AuthenticatedUser principal = AuthenticatedUser.from(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private static User user(Long id, Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setName("Usuario " + id);
+        user.setEmail("usuario" + id + "@test.com");
+        user.setRole(role);
+        return user;
+    }
+}
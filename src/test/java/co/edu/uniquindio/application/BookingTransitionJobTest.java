@@ -0,0 +1,153 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.datasource.ReadYourWritesWindow;
+import co.edu.uniquindio.application.index.AvailabilityIndex;
+import co.edu.uniquindio.application.jobs.BookingTransitionJob;
+import co.edu.uniquindio.application.jobs.DatabaseJobLock;
+import co.edu.uniquindio.application.model.*;
+import co.edu.uniquindio.application.repositories.BookingRepository;
+import co.edu.uniquindio.application.repositories.JobLockRepository;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.impl.BookingServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static co.edu.uniquindio.application.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transitions;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "app.jobs.booking-transitions.chunk-size=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BookingServiceImpl.class, AvailabilityIndex.class, ReadYourWritesWindow.class, DatabaseJobLock.class,
+        BookingTransitionJob.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookingTransitionJobTest {
+
+    @Autowired
+    private BookingTransitionJob bookingTransitionJob;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobLockRepository jobLockRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Place place;
+    private User guest;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        User host = userRepository.save(user("host@test.com", Role.HOST));
+        guest = userRepository.save(user("guest@test.com", Role.GUEST));
+        place = placeRepository.save(place(host));
+        now = LocalDateTime.now().withNano(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobLockRepository.deleteAll();
+        bookingRepository.deleteAll();
+        placeRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void run_ReservasVencidasYFinalizadas_DebeActualizarlasPorLotes() {
+        // Given: 5 pendientes vencidas, 1 pendiente reciente, 3 confirmadas finalizadas, 1 confirmada futura
+        List<Booking> expired = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expired.add(save(now.plusDays(10 + i * 2), BookingStatus.PENDING, now.minusHours(30)));
+        }
+        Booking recent = save(now.plusDays(40), BookingStatus.PENDING, now.minusHours(1));
+        for (int i = 0; i < 3; i++) {
+            save(now.minusDays(10 + i * 2), BookingStatus.CONFIRMED, now.minusDays(20));
+        }
+        Booking upcoming = save(now.plusDays(50), BookingStatus.CONFIRMED, now.minusDays(2));
+        availabilityIndex.rebuild();
+
+        // When
+        int transitioned = bookingTransitionJob.run();
+
+        // Then
+        assertEquals(8, transitioned);
+        assertEquals(5, bookingRepository.findByStatus(BookingStatus.CANCELLED).size());
+        assertEquals(3, bookingRepository.findByStatus(BookingStatus.COMPLETED).size());
+        assertEquals(BookingStatus.PENDING, bookingRepository.findById(recent.getId()).orElseThrow().getStatus());
+        assertEquals(BookingStatus.CONFIRMED, bookingRepository.findById(upcoming.getId()).orElseThrow().getStatus());
+
+        Booking firstExpired = expired.get(0);
+        assertTrue(availabilityIndex.isAvailable(place.getId(), firstExpired.getCheckIn(), firstExpired.getCheckOut()));
+        assertFalse(availabilityIndex.isAvailable(place.getId(), recent.getCheckIn(), recent.getCheckOut()));
+
+        assertEquals(5.0, meterRegistry.get("bookings.transitions").tag("transition", "pending_cancelled").counter().count());
+        assertEquals(3.0, meterRegistry.get("bookings.transitions").tag("transition", "confirmed_completed").counter().count());
+        assertEquals(3, meterRegistry.get("bookings.transitions.chunk").tag("transition", "pending_cancelled").timer().count());
+    }
+
+    @Test
+    void run_CandadoTomadoPorOtraInstancia_NoDebeProcesar() {
+        // Given
+        Booking pending = save(now.plusDays(10), BookingStatus.PENDING, now.minusHours(30));
+        JobLock lock = new JobLock();
+        lock.setName("booking-transitions");
+        lock.setLockedBy("otra-instancia");
+        lock.setLockedUntil(now.plusMinutes(5));
+        jobLockRepository.save(lock);
+
+        // When
+        int transitioned = bookingTransitionJob.run();
+
+        // Then
+        assertEquals(0, transitioned);
+        assertEquals(BookingStatus.PENDING, bookingRepository.findById(pending.getId()).orElseThrow().getStatus());
+        assertEquals(1.0, meterRegistry.get("bookings.transitions.skipped").counter().count());
+        assertEquals("otra-instancia", jobLockRepository.findById("booking-transitions").orElseThrow().getLockedBy());
+    }
+
+    private Booking save(LocalDateTime checkIn, BookingStatus status, LocalDateTime createdAt) {
+        Booking booking = new Booking();
+        booking.setPlace(place);
+        booking.setGuest(guest);
+        booking.setCheckIn(checkIn);
+        booking.setCheckOut(checkIn.plusDays(1));
+        booking.setGuestCount(1);
+        booking.setPrice(100.0);
+        booking.setStatus(status);
+        booking.setCreatedAt(createdAt);
+        return bookingRepository.save(booking);
+    }
+}
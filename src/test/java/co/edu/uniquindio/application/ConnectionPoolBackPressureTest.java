@@ -0,0 +1,72 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.dto.ApiResponse;
+import co.edu.uniquindio.application.exceptions.RestExceptionHandler;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolBackPressureTest {
+
+    private HikariDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:pool;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(1);
+        dataSource.setConnectionTimeout(250);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void transaccion_PoolAgotado_DebeResponder503ConRetryAfter() throws Exception {
+        // Given: la única conexión del pool está ocupada
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        try (Connection ignored = dataSource.getConnection()) {
+            // When
+            long started = System.nanoTime();
+            CannotCreateTransactionException ex = assertThrows(CannotCreateTransactionException.class,
+                    () -> transactionTemplate.executeWithoutResult(status -> { }));
+            long waitedMillis = (System.nanoTime() - started) / 1_000_000;
+            ResponseEntity<ApiResponse<Object>> response = new RestExceptionHandler().handleDatabaseUnavailable(ex);
+
+            // Then: la espera queda acotada por connection-timeout y la petición falla rápido
+            assertInstanceOf(SQLTransientConnectionException.class, ex.getCause());
+            assertTrue(waitedMillis < 2_000, () -> "Esperó " + waitedMillis + " ms por una conexión");
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+            assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            assertFalse(response.getBody().isSuccess());
+        }
+    }
+
+    @Test
+    void bloqueoDeFila_EsperaVencida_DebeResponder503ConRetryAfter() {
+        // When
+        ResponseEntity<ApiResponse<Object>> response = new RestExceptionHandler().handleDatabaseUnavailable(
+                new CannotAcquireLockException("Lock wait timeout exceeded"));
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+}
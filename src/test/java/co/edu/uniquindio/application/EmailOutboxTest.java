@@ -0,0 +1,260 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.exceptions.RateLimitExceededException;
+import co.edu.uniquindio.application.mail.EmailDispatcher;
+import co.edu.uniquindio.application.mail.EmailOutbox;
+import co.edu.uniquindio.application.mail.EmailTransport;
+import co.edu.uniquindio.application.model.OutboundEmail;
+import co.edu.uniquindio.application.model.OutboundEmailStatus;
+import co.edu.uniquindio.application.repositories.OutboundEmailRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Sin @EnableAsync en este contexto la entrega inmediata corre en el mismo hilo tras el commit
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "app.mail.outbox.max-attempts=2",
+        "app.mail.rate-limit.max-per-window=3"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EmailOutbox.class, EmailDispatcher.class, SimpleMeterRegistry.class, EmailOutboxTest.TransportConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmailOutboxTest {
+
+    @Autowired
+    private EmailOutbox emailOutbox;
+
+    @Autowired
+    private EmailDispatcher emailDispatcher;
+
+    @Autowired
+    private OutboundEmailRepository outboundEmailRepository;
+
+    @Autowired
+    private RecordingTransport transport;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Cada prueba usa su propio destinatario: el límite por email se comparte en el contexto
+    @BeforeEach
+    void setUp() {
+        transport.sent.clear();
+        transport.failuresLeft.set(0);
+        transport.duringSend = null;
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboundEmailRepository.deleteAll();
+    }
+
+    @Test
+    void enqueue_DentroDeTransaccion_DebeEntregarseTrasElCommit() {
+        // When
+        OutboundEmail email = new TransactionTemplate(transactionManager).execute(status -> {
+            OutboundEmail queued = emailOutbox.enqueue("commit@test.com", "Código", "ABC123");
+            assertTrue(transport.sent.isEmpty());
+            return queued;
+        });
+
+        // Then
+        assertEquals(List.of("commit@test.com"), transport.sent);
+        OutboundEmail stored = outboundEmailRepository.findById(email.getId()).orElseThrow();
+        assertEquals(OutboundEmailStatus.SENT, stored.getStatus());
+        assertEquals(1, stored.getAttempts());
+    }
+
+    @Test
+    void enqueue_TransaccionRevertida_NoDebeEnviar() {
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            emailOutbox.enqueue("rollback@test.com", "Código", "ABC123");
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertTrue(transport.sent.isEmpty());
+        assertEquals(0, outboundEmailRepository.count());
+    }
+
+    @Test
+    void deliverDue_TransporteFallaUnaVez_DebeReintentarYEnviar() {
+        // Given: el primer intento falla y queda reprogramado
+        transport.failuresLeft.set(1);
+        OutboundEmail email = emailOutbox.enqueue("retry@test.com", "Código", "ABC123");
+        OutboundEmail retrying = outboundEmailRepository.findById(email.getId()).orElseThrow();
+        assertEquals(OutboundEmailStatus.PENDING, retrying.getStatus());
+        assertTrue(retrying.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals(0, emailDispatcher.deliverDue(10));
+
+        // When: vence la espera
+        makeDue(retrying);
+        int sent = emailDispatcher.deliverDue(10);
+
+        // Then
+        assertEquals(1, sent);
+        OutboundEmail stored = outboundEmailRepository.findById(email.getId()).orElseThrow();
+        assertEquals(OutboundEmailStatus.SENT, stored.getStatus());
+        assertEquals(2, stored.getAttempts());
+        assertNull(stored.getLastError());
+    }
+
+    @Test
+    void deliverDue_FallosHastaElMaximo_DebeQuedarDescartado() {
+        // Given
+        transport.failuresLeft.set(5);
+        OutboundEmail email = emailOutbox.enqueue("failed@test.com", "Código", "ABC123");
+        makeDue(outboundEmailRepository.findById(email.getId()).orElseThrow());
+
+        // When
+        emailDispatcher.deliverDue(10);
+
+        // Then
+        OutboundEmail stored = outboundEmailRepository.findById(email.getId()).orElseThrow();
+        assertEquals(OutboundEmailStatus.FAILED, stored.getStatus());
+        assertEquals(2, stored.getAttempts());
+        assertNotNull(stored.getLastError());
+        assertTrue(transport.sent.isEmpty());
+    }
+
+    @Test
+    void deliver_EnvioMasLargoQueElArriendo_NoDebePisarElIntentoDelRelay() {
+        // Given: durante el primer envío vence el arriendo, el relay toma el correo y lo envía;
+        // después el primer envío falla
+        List<Integer> relaySent = new CopyOnWriteArrayList<>();
+        transport.duringSend = email -> {
+            jdbcTemplate.update("UPDATE email_outbox SET next_attempt_at = ? WHERE id = ?",
+                    LocalDateTime.now().minusSeconds(1), email.getId());
+            relaySent.add(emailDispatcher.deliverDue(10));
+            transport.failuresLeft.set(1);
+        };
+
+        // When
+        OutboundEmail email = emailOutbox.enqueue("lento@test.com", "Código", "ABC123");
+
+        // Then: queda el resultado del relay; el del intento que perdió el arriendo se descarta
+        assertEquals(List.of(1), relaySent);
+        assertEquals(List.of("lento@test.com"), transport.sent);
+        OutboundEmail stored = outboundEmailRepository.findById(email.getId()).orElseThrow();
+        assertEquals(OutboundEmailStatus.SENT, stored.getStatus());
+        assertEquals(1, stored.getAttempts());
+        assertNull(stored.getLastError());
+        assertEquals(1.0, meterRegistry.get("mail.outbox.deliveries").tag("result", "lease_lost").counter().count());
+    }
+
+    @Test
+    void deliver_CorreoYaTomado_NoDebeEnviarloDeNuevo() {
+        // Given: la entrega inmediata ya lo envió
+        OutboundEmail email = emailOutbox.enqueue("unavez@test.com", "Código", "ABC123");
+
+        // When: el relay o un segundo hilo intentan entregarlo
+        boolean sentAgain = emailDispatcher.deliver(email.getId());
+
+        // Then
+        assertFalse(sentAgain);
+        assertEquals(List.of("unavez@test.com"), transport.sent);
+    }
+
+    @Test
+    void reserve_DemasiadasSolicitudesAlMismoEmail_DebeLimitarHastaElFinDeLaVentana() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            emailOutbox.reserve("limite@test.com");
+        }
+
+        // When: el límite no distingue mayúsculas
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> emailOutbox.reserve("Limite@Test.com"));
+
+        // Then: Retry-After es lo que queda de la ventana (15m por defecto), y otros destinatarios no se ven afectados
+        assertTrue(ex.getRetryAfter().compareTo(Duration.ofMinutes(15)) <= 0);
+        assertTrue(ex.getRetryAfter().compareTo(Duration.ofMinutes(14)) > 0);
+        assertDoesNotThrow(() -> emailOutbox.reserve("otro@test.com"));
+    }
+
+    @Test
+    void reserve_TransaccionRevertida_DebeDevolverElCupo() {
+        // Given: tres solicitudes que fallan después de reservar
+        for (int i = 0; i < 3; i++) {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                emailOutbox.reserve("revertido@test.com");
+                status.setRollbackOnly();
+            });
+        }
+
+        // When / Then: solo cuentan las aceptadas
+        for (int i = 0; i < 3; i++) {
+            emailOutbox.reserve("revertido@test.com");
+        }
+        assertThrows(RateLimitExceededException.class, () -> emailOutbox.reserve("revertido@test.com"));
+    }
+
+    private void makeDue(OutboundEmail email) {
+        email.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        outboundEmailRepository.save(email);
+    }
+
+    static class RecordingTransport implements EmailTransport {
+
+        final List<String> sent = new CopyOnWriteArrayList<>();
+        final AtomicInteger failuresLeft = new AtomicInteger();
+        volatile Consumer<OutboundEmail> duringSend;
+
+        @Override
+        public void send(OutboundEmail email) throws Exception {
+            Consumer<OutboundEmail> hook = duringSend;
+            duringSend = null;
+            if (hook != null) {
+                hook.accept(email);
+            }
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw new IllegalStateException("SMTP no disponible");
+            }
+            sent.add(email.getRecipient());
+        }
+    }
+
+    @TestConfiguration
+    static class TransportConfig {
+
+        @Bean
+        RecordingTransport recordingTransport() {
+            return new RecordingTransport();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.cache.PlaceResponseCache;
+import co.edu.uniquindio.application.index.AvailabilityIndex;
+import co.edu.uniquindio.application.index.PlaceGeoIndex;
+import co.edu.uniquindio.application.index.PlaceTextIndex;
+import co.edu.uniquindio.application.model.*;
+import co.edu.uniquindio.application.repositories.BookingRepository;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
+import co.edu.uniquindio.application.repositories.ReviewRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Presupuesto de sentencias SQL por endpoint de lectura. Los datos incluyen varios anfitriones,
+// huéspedes y alojamientos, de modo que un N+1 (una relación perezosa recorrida fila a fila)
+// supera el presupuesto y hace fallar la prueba.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointQueryCountTest {
+
+    private static final int HOSTS = 4;
+    private static final int PLACES_PER_HOST = 5;
+    private static final int GUESTS = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private PlaceResponseCache placeResponseCache;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private PlaceGeoIndex placeGeoIndex;
+
+    @Autowired
+    private PlaceTextIndex placeTextIndex;
+
+    private Statistics statistics;
+    private User host;
+    private User guest;
+    private Place place;
+    private Booking booking;
+    private Review review;
+
+    @BeforeAll
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LocalDateTime past = LocalDateTime.now().minusYears(1).withNano(0);
+
+        List<User> guests = new ArrayList<>();
+        for (int g = 0; g < GUESTS; g++) {
+            guests.add(userRepository.save(user("Huésped " + g, "huesped" + g + "@conteo.com", Role.GUEST)));
+        }
+
+        int stay = 0;
+        for (int h = 0; h < HOSTS; h++) {
+            User owner = userRepository.save(user("Anfitrión " + h, "anfitrion" + h + "@conteo.com", Role.HOST));
+            for (int p = 0; p < PLACES_PER_HOST; p++) {
+                Place saved = placeRepository.save(place(owner, "Cabaña cafetera " + h + "-" + p, 4.53 + p * 0.01));
+                for (User visitor : guests) {
+                    LocalDateTime checkIn = past.plusDays(stay++ * 3L);
+                    Booking savedBooking = bookingRepository.save(booking(visitor, saved, checkIn));
+                    Review savedReview = reviewRepository.save(review(visitor, saved, 1 + stay % 5));
+                    if (booking == null) {
+                        host = owner;
+                        guest = visitor;
+                        place = saved;
+                        booking = savedBooking;
+                        review = savedReview;
+                    }
+                }
+            }
+        }
+
+        availabilityIndex.rebuild();
+        placeGeoIndex.rebuild();
+        placeTextIndex.rebuild();
+    }
+
+    @BeforeEach
+    void setUp() {
+        placeResponseCache.evictAll();
+    }
+
+    // Listados: consulta de la página (con anfitrión por JOIN) + lotes de imágenes y servicios,
+    // más la búsqueda del anfitrión/huésped/alojamiento del filtro y la versión para el ETag de reseñas
+    @Test
+    void alojamientos_ListadosYDetalle_DebenUsarConsultasConstantes() throws Exception {
+        assertStatements(3, "/api/places?size=20");
+        assertStatements(4, "/api/places/host/" + host.getId() + "?size=20");
+        assertStatements(3, "/api/places/" + place.getId());
+        assertStatements(3, "/api/places/search/text?q=cabaña&limit=20");
+        assertStatements(3, "/api/places/search/nearby?lat=4.55&lng=-75.68&radiusKm=20&limit=20");
+    }
+
+    @Test
+    void reservas_ListadosYDetalle_DebenUsarConsultasConstantes() throws Exception {
+        assertStatements(4, "/api/bookings/guest/" + guest.getId() + "?size=20");
+        assertStatements(4, "/api/bookings/host/" + host.getId() + "?size=20");
+        assertStatements(3, "/api/bookings/" + booking.getId());
+    }
+
+    @Test
+    void resenas_ListadosYDetalle_DebenUsarConsultasConstantes() throws Exception {
+        assertStatements(5, "/api/reviews/place/" + place.getId() + "?size=20");
+        assertStatements(4, "/api/reviews/user/" + guest.getId() + "?size=20");
+        assertStatements(3, "/api/reviews/" + review.getId());
+    }
+
+    private void assertStatements(long budget, String path) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get(path)).andExpect(status().isOk());
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= budget,
+                () -> path + " ejecutó " + statements + " sentencias SQL (presupuesto: " + budget + ")");
+    }
+
+    private User user(String name, String email, Role role) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        user.setPassword("secreta");
+        user.setRole(role);
+        user.setIsHost(role == Role.HOST);
+        return user;
+    }
+
+    private Place place(User owner, String title, double latitude) {
+        Location location = new Location();
+        location.setLatitude(latitude);
+        location.setLongitude(-75.68);
+
+        Address address = new Address();
+        address.setAddress("Vereda El Caimo");
+        address.setCity("Armenia");
+        address.setLocation(location);
+
+        Place place = new Place();
+        place.setTitle(title);
+        place.setDescription("Cabaña con vista a los cafetales");
+        place.setAddress(address);
+        place.setNightlyPrice(150000.0);
+        place.setMaxGuests(4);
+        place.setHost(owner);
+        place.setImages(new ArrayList<>(List.of("https://img.test/" + title.hashCode() + ".jpg")));
+        place.setServices(new ArrayList<>(List.of(Service.WIFI, Service.PARKING)));
+        return place;
+    }
+
+    private Booking booking(User visitor, Place place, LocalDateTime checkIn) {
+        Booking booking = new Booking();
+        booking.setGuest(visitor);
+        booking.setPlace(place);
+        booking.setCheckIn(checkIn);
+        booking.setCheckOut(checkIn.plusDays(2));
+        booking.setGuestCount(2);
+        booking.setPrice(300000.0);
+        booking.setStatus(BookingStatus.COMPLETED);
+        return booking;
+    }
+
+    private Review review(User visitor, Place place, int rating) {
+        Review review = new Review();
+        review.setUser(visitor);
+        review.setPlace(place);
+        review.setRating(rating);
+        review.setComment("Muy buena estadía");
+        return review;
+    }
+}
@@ -0,0 +1,181 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.cache.EntityCacheEndpoint;
+import co.edu.uniquindio.application.model.Place;
+import co.edu.uniquindio.application.model.Role;
+import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static co.edu.uniquindio.application.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:entitycache;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EntityCacheEndpoint.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EntityCacheTest {
+
+    @Autowired
+    private EntityCacheEndpoint entityCacheEndpoint;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User host;
+    private Place place;
+
+    @BeforeEach
+    void setUp() {
+        host = userRepository.save(user("host@test.com", Role.HOST));
+        place = placeRepository.save(placeWithImage(host));
+        entityCacheEndpoint.evictAll();
+        sessionFactory().getStatistics().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        placeRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void findById_LecturasRepetidas_DebeServirseDesdeLaCacheDeSegundoNivel() {
+        // When: cada lectura usa su propia transacción y EntityManager
+        loadWithImages(place.getId());
+        Place cached = loadWithImages(place.getId());
+
+        // Then
+        assertEquals("Casa", cached.getTitle());
+        assertEquals(List.of("https://img/1.jpg"), cached.getImages());
+        assertEquals(1, regionStatistics(Place.CACHE_REGION).getHitCount());
+        assertTrue(regionStatistics(Place.IMAGES_CACHE_REGION).getHitCount() >= 1);
+    }
+
+    @Test
+    void evict_EntradaDeUnAlojamiento_DebeVolverALaBase() {
+        // Given
+        placeRepository.findById(place.getId()).orElseThrow();
+
+        // When
+        entityCacheEndpoint.evict("place", place.getId());
+        placeRepository.findById(place.getId()).orElseThrow();
+
+        // Then
+        assertEquals(0, regionStatistics(Place.CACHE_REGION).getHitCount());
+        assertEquals(2, regionStatistics(Place.CACHE_REGION).getPutCount());
+    }
+
+    @Test
+    void applyRatingDelta_Reseña_NoDebeDejarDatosObsoletosEnCache() {
+        // Given
+        placeRepository.findById(place.getId()).orElseThrow();
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                placeRepository.applyRatingDelta(place.getId(), 5, 1));
+        Place reloaded = placeRepository.findById(place.getId()).orElseThrow();
+
+        // Then
+        assertEquals(1L, reloaded.getRatingCount());
+        assertEquals(5.0, reloaded.getAverageRating());
+    }
+
+    @Test
+    void applyRatingDelta_Reseña_DebeConservarEnCacheLosDemasAlojamientos() {
+        // Given: dos alojamientos en caché
+        Place other = placeRepository.save(placeWithImage(host));
+        entityCacheEndpoint.evictAll();
+        placeRepository.findById(place.getId()).orElseThrow();
+        loadWithImages(other.getId());
+        sessionFactory().getStatistics().clear();
+
+        // When: reseña sobre el primero
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                placeRepository.applyRatingDelta(place.getId(), 4, 1));
+        Place untouched = loadWithImages(other.getId());
+        Place reviewed = placeRepository.findById(place.getId()).orElseThrow();
+
+        // Then: solo se desalojó el alojamiento reseñado
+        assertEquals(List.of("https://img/1.jpg"), untouched.getImages());
+        assertEquals(4.0, reviewed.getAverageRating());
+        assertEquals(1, regionStatistics(Place.CACHE_REGION).getHitCount());
+        assertEquals(1, regionStatistics(Place.CACHE_REGION).getMissCount());
+        assertTrue(regionStatistics(Place.IMAGES_CACHE_REGION).getHitCount() >= 1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void statistics_DebeReportarCadaRegion() {
+        // Given
+        placeRepository.findById(place.getId()).orElseThrow();
+        placeRepository.findById(place.getId()).orElseThrow();
+
+        // When
+        Map<String, Object> statistics = entityCacheEndpoint.statistics();
+
+        // Then
+        Map<String, Map<String, Long>> regions = (Map<String, Map<String, Long>>) statistics.get("regions");
+        assertEquals(true, statistics.get("statisticsEnabled"));
+        assertEquals(1L, regions.get(Place.CACHE_REGION).get("hits"));
+        assertTrue(regions.containsKey(User.CACHE_REGION));
+        assertTrue(statistics.containsKey("queryCache"));
+    }
+
+    // Carga el alojamiento e inicializa sus imágenes dentro de una transacción (la colección es LAZY)
+    private Place loadWithImages(Long id) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Place loaded = placeRepository.findById(id).orElseThrow();
+            Hibernate.initialize(loaded.getImages());
+            return loaded;
+        });
+    }
+
+    private CacheRegionStatistics regionStatistics(String region) {
+        return sessionFactory().getStatistics().getDomainDataRegionStatistics(region);
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    private Place placeWithImage(User host) {
+        Place place = place(host);
+        place.addImage("https://img/1.jpg");
+        return place;
+    }
+}
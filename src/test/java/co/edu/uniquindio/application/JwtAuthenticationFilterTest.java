@@ -0,0 +1,87 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.security.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        AuthenticationCache cache = new AuthenticationCache(Duration.ofMinutes(5), 100);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, cache, true, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_TokenConVersionVigente_DebeAutenticarSinCargarUsuario() throws Exception {
+        // Given
+        when(jwtTokenProvider.parse("token")).thenReturn(claims(3L));
+        when(userDetailsService.loadTokenVersion("juan@test.com")).thenReturn(3L);
+
+        // When
+        filter.doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(auth);
+        AuthenticatedUser principal = (AuthenticatedUser) auth.getPrincipal();
+        assertEquals(7L, principal.id());
+        assertTrue(auth.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_HOST")));
+        verify(userDetailsService, never()).loadPrincipal(anyString());
+    }
+
+    @Test
+    void doFilter_TokenRevocado_NoDebeAutenticar() throws Exception {
+        // Given
+        when(jwtTokenProvider.parse("token")).thenReturn(claims(2L));
+        when(userDetailsService.loadTokenVersion("juan@test.com")).thenReturn(3L);
+
+        // When
+        filter.doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private JwtClaims claims(Long tokenVersion) {
+        return new JwtClaims("juan@test.com", new Date(System.currentTimeMillis() + 60000), "HOST",
+                7L, true, tokenVersion);
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/bookings/guest/7");
+        request.addHeader("Authorization", "Bearer token");
+        return request;
+    }
+}
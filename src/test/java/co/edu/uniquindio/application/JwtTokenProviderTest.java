@@ -0,0 +1,66 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.model.Role;
+import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.security.JwtClaims;
+import co.edu.uniquindio.application.security.JwtTokenProvider;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String OLD_SECRET = "claveAnteriorSuficientementeLargaParaHS256xx";
+    private static final String NEW_SECRET = "claveNuevaSuficientementeLargaParaHS256xxxxx";
+
+    @Test
+    void parse_TokenGenerado_DebeRetornarClaimsDelUsuario() {
+        // Given
+        JwtTokenProvider provider = provider("k1", NEW_SECRET, "");
+
+        // When
+        JwtClaims claims = provider.parse(provider.generateToken(authentication()));
+
+        // Then
+        assertEquals("juan@test.com", claims.subject());
+        assertEquals("HOST", claims.role());
+        assertEquals(7L, claims.userId());
+        assertTrue(claims.host());
+        assertEquals(2L, claims.tokenVersion());
+        assertTrue(claims.isStateless());
+        assertFalse(claims.isExpired());
+    }
+
+    @Test
+    void parse_TokenFirmadoConClaveAnterior_DebeAceptarseDuranteRotacion() {
+        // Given
+        String oldToken = provider("k1", OLD_SECRET, "").generateToken(authentication());
+        JwtTokenProvider rotated = provider("k2", NEW_SECRET, "k1:" + OLD_SECRET);
+
+        // When / Then
+        assertEquals("juan@test.com", rotated.parse(oldToken).subject());
+        assertThrows(JwtException.class, () -> provider("k2", NEW_SECRET, "").parse(oldToken));
+    }
+
+    private JwtTokenProvider provider(String keyId, String secret, String previousKeys) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", secret);
+        ReflectionTestUtils.setField(provider, "activeKeyId", keyId);
+        ReflectionTestUtils.setField(provider, "previousKeys", previousKeys);
+        ReflectionTestUtils.setField(provider, "jwtExpirationInMs", 60000);
+        ReflectionTestUtils.invokeMethod(provider, "init");
+        return provider;
+    }
+
+    private UsernamePasswordAuthenticationToken authentication() {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("juan@test.com");
+        user.setTokenVersion(2L);
+        user.setRole(Role.HOST);
+        return new UsernamePasswordAuthenticationToken(user, null);
+    }
+}
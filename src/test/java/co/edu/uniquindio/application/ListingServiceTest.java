@@ -0,0 +1,204 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.dto.BookingResponse;
+import co.edu.uniquindio.application.dto.CursorPage;
+import co.edu.uniquindio.application.dto.PageCursor;
+import co.edu.uniquindio.application.dto.PlaceResponse;
+import co.edu.uniquindio.application.dto.ReviewResponse;
+import co.edu.uniquindio.application.mappers.ListingMapperImpl;
+import co.edu.uniquindio.application.model.*;
+import co.edu.uniquindio.application.repositories.BookingRepository;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
+import co.edu.uniquindio.application.repositories.ReviewRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.ListingService;
+import co.edu.uniquindio.application.services.impl.ListingServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:listings;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ListingServiceImpl.class, ListingMapperImpl.class})
+class ListingServiceTest {
+
+    @Autowired
+    private ListingService listingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User host;
+    private User guest;
+    private Place place;
+
+    @BeforeEach
+    void setUp() {
+        host = user("Anfitrión", "host@listados.com", Role.HOST);
+        HostProfile profile = new HostProfile();
+        profile.setLegalDocument("CC 123");
+        profile.setAboutMe("Cafetero de tradición");
+        profile.setUser(host);
+        host.setHostProfile(profile);
+        host = userRepository.save(host);
+
+        guest = userRepository.save(user("Huésped", "guest@listados.com", Role.GUEST));
+
+        place = new Place();
+        place.setTitle("Finca El Roble");
+        place.setDescription("Finca con vista a los cafetales");
+        place.setAddress(address());
+        place.setNightlyPrice(180000.0);
+        place.setMaxGuests(6);
+        place.setHost(host);
+        place.setImages(new ArrayList<>(List.of("https://img.test/roble.jpg")));
+        place.setServices(new ArrayList<>(List.of(Service.WIFI, Service.POOL)));
+        place.setRatingSum(9L);
+        place.setRatingCount(2L);
+        place = placeRepository.save(place);
+    }
+
+    @Test
+    void getBookingsByGuest_FilaProyectada_DebeArmarLaRespuestaCompleta() {
+        // Given
+        LocalDateTime checkIn = LocalDateTime.now().plusDays(5).withNano(0);
+        Booking booking = new Booking();
+        booking.setGuest(guest);
+        booking.setPlace(place);
+        booking.setCheckIn(checkIn);
+        booking.setCheckOut(checkIn.plusDays(2));
+        booking.setGuestCount(3);
+        booking.setPrice(360000.0);
+        booking.setStatus(BookingStatus.CONFIRMED);
+        booking = bookingRepository.save(booking);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        CursorPage<BookingResponse> page = listingService.getBookingsByGuest(guest.getId(), PageCursor.first(), 10);
+
+        // Then
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+        BookingResponse response = page.getItems().get(0);
+        assertEquals(booking.getId(), response.getId());
+        assertEquals(checkIn, response.getCheckIn());
+        assertEquals(3, response.getGuestCount());
+        assertEquals(BookingStatus.CONFIRMED, response.getStatus());
+        assertEquals("guest@listados.com", response.getGuest().getEmail());
+        assertNull(response.getGuest().getHostProfile());
+
+        PlaceResponse placeResponse = response.getPlace();
+        assertEquals("Finca El Roble", placeResponse.getTitle());
+        assertEquals("Armenia", placeResponse.getAddress().getCity());
+        assertEquals(4.53, placeResponse.getAddress().getLocation().getLatitude());
+        assertEquals(List.of("https://img.test/roble.jpg"), placeResponse.getImages());
+        assertEquals(List.of(Service.WIFI, Service.POOL), placeResponse.getServices());
+        assertEquals(4.5, placeResponse.getAverageRating());
+        assertEquals(2L, placeResponse.getReviewCount());
+        assertEquals("Anfitrión", placeResponse.getHost().getName());
+        assertEquals("CC 123", placeResponse.getHost().getHostProfile().getLegalDocument());
+    }
+
+    @Test
+    void getReviewsWithoutRepliesByHost_ReseñasConYSinRespuesta_DebeFiltrarYPaginar() {
+        // Given
+        Review answered = review(5);
+        Reply reply = new Reply();
+        reply.setMessage("¡Gracias por venir!");
+        reply.setRepliedAt(LocalDateTime.now());
+        answered.setReply(reply);
+        reviewRepository.save(answered);
+        Review first = reviewRepository.save(review(4));
+        Review second = reviewRepository.save(review(3));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        CursorPage<ReviewResponse> firstPage =
+                listingService.getReviewsWithoutRepliesByHost(host.getId(), PageCursor.first(), 1);
+        CursorPage<ReviewResponse> secondPage = listingService.getReviewsWithoutRepliesByHost(
+                host.getId(), PageCursor.decode(firstPage.getNextCursor()), 1);
+        CursorPage<ReviewResponse> withReplies =
+                listingService.getReviewsWithRepliesByHost(host.getId(), PageCursor.first(), 10);
+
+        // Then
+        assertTrue(firstPage.isHasMore());
+        assertEquals(second.getId(), firstPage.getItems().get(0).getId());
+        assertNull(firstPage.getItems().get(0).getReply());
+        assertEquals(List.of(first.getId()), secondPage.getItems().stream().map(ReviewResponse::getId).toList());
+        assertFalse(secondPage.isHasMore());
+        assertEquals("¡Gracias por venir!", withReplies.getItems().get(0).getReply().getMessage());
+        assertEquals("Huésped", withReplies.getItems().get(0).getUser().getName());
+    }
+
+    @Test
+    void getPlacesByHost_AnfitrionInexistente_DebeLanzarExcepcion() {
+        // When / Then
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> listingService.getPlacesByHost(-1L, PageCursor.first(), 10));
+        assertEquals("Anfitrión no encontrado", ex.getMessage());
+    }
+
+    private Review review(int rating) {
+        Review review = new Review();
+        review.setUser(guest);
+        review.setPlace(place);
+        review.setRating(rating);
+        review.setComment("Muy buena estadía");
+        return review;
+    }
+
+    private User user(String name, String email, Role role) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        user.setPassword("secreta");
+        user.setRole(role);
+        user.setIsHost(role == Role.HOST);
+        user.setDateBirth(LocalDate.of(1990, 1, 1));
+        return user;
+    }
+
+    private Address address() {
+        Location location = new Location();
+        location.setLatitude(4.53);
+        location.setLongitude(-75.68);
+
+        Address address = new Address();
+        address.setAddress("Vereda El Caimo");
+        address.setCity("Armenia");
+        address.setLocation(location);
+        return address;
+    }
+}
@@ -0,0 +1,89 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.mappers.CouponMapper;
+import co.edu.uniquindio.application.observability.RequestMetricsFilter;
+import co.edu.uniquindio.application.observability.ServiceMetricsAspect;
+import co.edu.uniquindio.application.observability.SqlStatementCounter;
+import co.edu.uniquindio.application.repositories.CouponRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.CouponService;
+import co.edu.uniquindio.application.services.impl.CouponServiceImpl;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ObservabilityTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void filtro_PeticionConConsultas_DebeRegistrarSentenciasPorEndpoint() throws Exception {
+        // Given: el "controlador" ejecuta tres sentencias
+        SqlStatementCounter inspector = new SqlStatementCounter();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/places/{id}");
+                inspector.inspect("select 1");
+                inspector.inspect("select 2");
+                inspector.inspect("select 3");
+            }
+        };
+
+        // When
+        new RequestMetricsFilter(meterRegistry).doFilter(new MockHttpServletRequest("GET", "/api/places/7"),
+                new MockHttpServletResponse(), new MockFilterChain(servlet));
+        inspector.inspect("fuera de la petición");
+
+        // Then
+        DistributionSummary summary = meterRegistry.get("http.server.requests.sql.statements")
+                .tag("method", "GET").tag("uri", "/api/places/{id}").summary();
+        assertEquals(1, summary.count());
+        assertEquals(3.0, summary.totalAmount());
+    }
+
+    @Test
+    void aspecto_MetodosDeServicio_DebeMedirExitosYErrores() {
+        // Given
+        CouponRepository couponRepository = mock(CouponRepository.class);
+        when(couponRepository.findAll()).thenReturn(List.of());
+        when(couponRepository.findByCode("NO")).thenReturn(Optional.empty());
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new CouponServiceImpl(couponRepository, mock(UserRepository.class), mock(CouponMapper.class)));
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        CouponService service = factory.getProxy();
+
+        // When
+        service.getAllCoupons();
+        service.getAllCoupons();
+        assertThrows(RuntimeException.class, () -> service.getCouponByCode("NO"));
+
+        // Then
+        Timer success = meterRegistry.get("app.service.invocations")
+                .tag("class", "CouponServiceImpl").tag("method", "getAllCoupons").tag("exception", "none").timer();
+        assertEquals(2, success.count());
+        assertEquals(1, meterRegistry.get("app.service.invocations")
+                .tag("method", "getCouponByCode").tag("exception", "RuntimeException").timer().count());
+    }
+}
@@ -0,0 +1,103 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.dto.ApiResponse;
+import co.edu.uniquindio.application.dto.CursorPage;
+import co.edu.uniquindio.application.dto.PageCursor;
+import co.edu.uniquindio.application.exceptions.RestExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageCursorTest {
+
+    @Test
+    void encode_Decode_DebeConservarLaPosicion() {
+        // Given
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2026, 10, 18, 10, 0, 5, 123_000_000), 42L);
+
+        // When
+        String token = cursor.encode();
+
+        // Then: texto opaco apto para URL
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+        assertEquals(cursor, PageCursor.decode(token));
+    }
+
+    @Test
+    void decode_SinCursor_DebeDevolverLaPrimeraPagina() {
+        assertEquals(PageCursor.first(), PageCursor.decode(null));
+        assertEquals(PageCursor.first(), PageCursor.decode(" "));
+    }
+
+    @Test
+    void decode_CursorMalformadoOAlterado_DebeResponder400() {
+        // Given
+        List<String> invalid = List.of(
+                "no es base64!",
+                encodeRaw("sin-separador"),
+                encodeRaw("2026-10-18T10:00|doce"),
+                encodeRaw("ayer|12"));
+        RestExceptionHandler handler = new RestExceptionHandler();
+
+        for (String token : invalid) {
+            // When
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(token));
+            ResponseEntity<ApiResponse<Object>> response = handler.handleIllegalArgumentException(ex);
+
+            // Then
+            assertEquals("Cursor de paginación inválido", ex.getMessage());
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode(), token);
+        }
+    }
+
+    @Test
+    void validateSize_FueraDeRango_DebeRechazarse() {
+        assertEquals(PageCursor.DEFAULT_SIZE, PageCursor.validateSize(null));
+        assertEquals(PageCursor.MAX_SIZE, PageCursor.validateSize(PageCursor.MAX_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.validateSize(0));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.validateSize(PageCursor.MAX_SIZE + 1));
+    }
+
+    @Test
+    void of_MasFilasQueElTamano_DebeRecortarYDarCursorDelUltimo() {
+        // Given: la consulta pidió size + 1 filas
+        List<Long> fetched = List.of(5L, 4L, 3L, 2L);
+
+        // When
+        CursorPage<Long> page = CursorPage.of(fetched, 3, this::cursorOf);
+
+        // Then
+        assertEquals(List.of(5L, 4L, 3L), page.getItems());
+        assertTrue(page.isHasMore());
+        assertEquals(cursorOf(3L), PageCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void of_UltimaPagina_NoDebeDarCursor() {
+        // When
+        CursorPage<Long> exact = CursorPage.of(List.of(3L, 2L, 1L), 3, this::cursorOf);
+        CursorPage<Long> empty = CursorPage.of(List.of(), 3, this::cursorOf);
+
+        // Then
+        assertEquals(List.of(3L, 2L, 1L), exact.getItems());
+        assertFalse(exact.isHasMore());
+        assertNull(exact.getNextCursor());
+        assertTrue(empty.getItems().isEmpty());
+        assertNull(empty.getNextCursor());
+    }
+
+    private PageCursor cursorOf(Long id) {
+        return new PageCursor(LocalDateTime.of(2026, 10, 18, 10, 0).minusMinutes(id), id);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
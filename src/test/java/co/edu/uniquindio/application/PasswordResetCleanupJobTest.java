@@ -0,0 +1,88 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.jobs.PasswordResetCleanupJob;
+import co.edu.uniquindio.application.model.PasswordResetCode;
+import co.edu.uniquindio.application.model.Role;
+import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.repositories.PasswordResetCodeRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:resetcleanup;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PasswordResetCleanupJob.class)
+class PasswordResetCleanupJobTest {
+
+    @Autowired
+    private PasswordResetCleanupJob passwordResetCleanupJob;
+
+    @Autowired
+    private PasswordResetCodeRepository passwordResetCodeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setName("Usuario");
+        user.setEmail("olvido@test.com");
+        user.setPassword("secreta");
+        user.setRole(Role.GUEST);
+        user = userRepository.save(user);
+    }
+
+    @Test
+    void run_CodigosVencidosYVigentes_DebeEliminarSoloLosVencidos() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        passwordResetCodeRepository.save(code("VENCIDO1", now.minus(PasswordResetCode.TTL).minusMinutes(1)));
+        passwordResetCodeRepository.save(code("VENCIDO2", now.minusDays(2)));
+        passwordResetCodeRepository.save(code("VIGENTE1", now.minusMinutes(1)));
+
+        // When
+        int deleted = passwordResetCleanupJob.run();
+
+        // Then
+        assertEquals(2, deleted);
+        assertEquals(List.of("VIGENTE1"),
+                passwordResetCodeRepository.findAll().stream().map(PasswordResetCode::getCode).toList());
+    }
+
+    @Test
+    void run_SinCodigosVencidos_NoDebeEliminarNada() {
+        // Given
+        passwordResetCodeRepository.save(code("VIGENTE2", LocalDateTime.now()));
+
+        // When / Then
+        assertEquals(0, passwordResetCleanupJob.run());
+        assertEquals(1, passwordResetCodeRepository.count());
+    }
+
+    private PasswordResetCode code(String value, LocalDateTime createdAt) {
+        PasswordResetCode code = new PasswordResetCode();
+        code.setCode(value);
+        code.setUser(user);
+        code.setCreatedAt(createdAt);
+        return code;
+    }
+}
@@ -0,0 +1,87 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.dto.PageCursor;
+import co.edu.uniquindio.application.dto.PlaceETag;
+import co.edu.uniquindio.application.repositories.projections.PlaceVersionView;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceETagTest {
+
+    @Test
+    void matches_ListaConEtiquetaDebilOComodin_DebeCoincidir() {
+        // Given
+        String eTag = PlaceETag.of(version(7L, 3L, 2L, 1L));
+
+        // When / Then
+        assertEquals("\"p7-3.2.1\"", eTag);
+        assertTrue(PlaceETag.matches(eTag, eTag));
+        assertTrue(PlaceETag.matches("\"otro\", W/" + eTag, eTag));
+        assertTrue(PlaceETag.matches("*", eTag));
+        assertFalse(PlaceETag.matches("\"p7-3.2.0\"", eTag));
+        assertFalse(PlaceETag.matches(null, eTag));
+    }
+
+    @Test
+    void ofReviews_DistintaPaginaOTamano_DebeGenerarEtiquetasDistintas() {
+        // Given
+        PlaceVersionView version = version(7L, 3L, 2L, 1L);
+
+        // When
+        String first = PlaceETag.ofReviews(version, PageCursor.decode(null), 20);
+        String firstBlank = PlaceETag.ofReviews(version, PageCursor.decode(" "), 20);
+        String smaller = PlaceETag.ofReviews(version, PageCursor.first(), 10);
+        String next = PlaceETag.ofReviews(version, PageCursor.decode("MjAyNi0xMC0xOFQxMDowMHwxMg"), 20);
+        String newReview = PlaceETag.ofReviews(version(7L, 3L, 3L, 1L), PageCursor.first(), 20);
+
+        // Then
+        assertEquals(first, firstBlank);
+        assertNotEquals(first, smaller);
+        assertNotEquals(first, next);
+        assertNotEquals(first, newReview);
+        assertNotEquals(PlaceETag.of(version), first);
+    }
+
+    @Test
+    void ofReviews_PaginaDeResenas_DebeSerDebilYUsarElCursorNormalizado() {
+        // Given
+        PlaceVersionView version = version(7L, 3L, 2L, 1L);
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2026, 10, 18, 10, 0), 12L);
+
+        // When
+        String eTag = PlaceETag.ofReviews(version, cursor, 20);
+
+        // Then
+        assertEquals("W/\"r7-3.2.1-" + cursor.encode() + "-20\"", eTag);
+        assertTrue(PlaceETag.matches(eTag, eTag));
+        assertTrue(PlaceETag.matches(eTag.substring(2), eTag));
+        assertFalse(PlaceETag.matches("W/\"r7-3.2.1-first-20\"", eTag));
+    }
+
+    private PlaceVersionView version(Long id, Long version, Long reviewRevision, Long hostVersion) {
+        return new PlaceVersionView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+
+            @Override
+            public Long getReviewRevision() {
+                return reviewRevision;
+            }
+
+            @Override
+            public Long getHostVersion() {
+                return hostVersion;
+            }
+        };
+    }
+}
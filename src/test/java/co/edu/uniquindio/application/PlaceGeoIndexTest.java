@@ -0,0 +1,105 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.index.PlaceGeoIndex;
+import co.edu.uniquindio.application.model.Address;
+import co.edu.uniquindio.application.model.Location;
+import co.edu.uniquindio.application.model.Place;
+import co.edu.uniquindio.application.model.Service;
+import co.edu.uniquindio.application.model.Status;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceGeoIndexTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @InjectMocks
+    private PlaceGeoIndex placeGeoIndex;
+
+    @Test
+    void findWithin_AlojamientosEnVariasCeldas_DebeRetornarOrdenadosPorDistancia() {
+        // Given: Armenia, Calarcá (~7 km), Pereira (~31 km) y Bogotá (~180 km)
+        placeGeoIndex.onPlaceChanged(place(1L, 4.5339, -75.6811, Status.ACTIVE));
+        placeGeoIndex.onPlaceChanged(place(2L, 4.5296, -75.6433, Status.ACTIVE));
+        placeGeoIndex.onPlaceChanged(place(3L, 4.8133, -75.6961, Status.ACTIVE));
+        placeGeoIndex.onPlaceChanged(place(4L, 4.7110, -74.0721, Status.ACTIVE));
+
+        // When
+        List<PlaceGeoIndex.Hit> hits = placeGeoIndex.findWithin(4.5339, -75.6811, 50, 10);
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L), hits.stream().map(PlaceGeoIndex.Hit::placeId).toList());
+        assertEquals(0.0, hits.get(0).distanceKm(), 0.001);
+        assertEquals(31.0, hits.get(2).distanceKm(), 1.0);
+    }
+
+    @Test
+    void onPlaceChanged_AlojamientoDesactivado_DebeRetirarloDelIndice() {
+        // Given
+        Place place = place(1L, 4.5339, -75.6811, Status.ACTIVE);
+        placeGeoIndex.onPlaceChanged(place);
+
+        // When
+        place.setStatus(Status.INACTIVE);
+        placeGeoIndex.onPlaceChanged(place);
+
+        // Then
+        assertTrue(placeGeoIndex.findWithin(4.5339, -75.6811, 10, 10).isEmpty());
+    }
+
+    @Test
+    void findWithin_RadioQueCruzaElAntimeridiano_DebeEncontrarAmbosLados() {
+        // Given: Fiyi, a ambos lados de la longitud 180
+        placeGeoIndex.onPlaceChanged(place(1L, -16.5, 179.95, Status.ACTIVE));
+        placeGeoIndex.onPlaceChanged(place(2L, -16.5, -179.95, Status.ACTIVE));
+
+        // When
+        List<PlaceGeoIndex.Hit> hits = placeGeoIndex.findWithin(-16.5, 179.99, 20, 10);
+
+        // Then
+        assertEquals(2, hits.size());
+    }
+
+    @Test
+    void findWithin_FiltroDeServicios_DebeEvaluarMascaraEnMemoria() {
+        // Given
+        Place wifiPool = place(1L, 4.5339, -75.6811, Status.ACTIVE);
+        wifiPool.setServices(List.of(Service.WIFI, Service.POOL));
+        Place parking = place(2L, 4.5340, -75.6812, Status.ACTIVE);
+        parking.setServices(List.of(Service.PARKING));
+        placeGeoIndex.onPlaceChanged(wifiPool);
+        placeGeoIndex.onPlaceChanged(parking);
+
+        long wifiAndPool = Service.toMask(List.of(Service.WIFI, Service.POOL));
+        long poolOrParking = Service.toMask(List.of(Service.POOL, Service.PARKING));
+
+        // When / Then
+        assertEquals(List.of(1L), placeGeoIndex.findWithin(4.5339, -75.6811, 5, wifiAndPool, 0L, 10)
+                .stream().map(PlaceGeoIndex.Hit::placeId).toList());
+        assertEquals(2, placeGeoIndex.findWithin(4.5339, -75.6811, 5, 0L, poolOrParking, 10).size());
+    }
+
+    private Place place(Long id, double latitude, double longitude, Status status) {
+        Location location = new Location();
+        location.setLatitude(latitude);
+        location.setLongitude(longitude);
+        Address address = new Address();
+        address.setLocation(location);
+
+        Place place = new Place();
+        place.setId(id);
+        place.setAddress(address);
+        place.setStatus(status);
+        return place;
+    }
+}
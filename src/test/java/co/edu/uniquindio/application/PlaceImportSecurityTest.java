@@ -0,0 +1,117 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.model.Role;
+import co.edu.uniquindio.application.model.User;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Con la cadena de seguridad completa: la importación masiva solo la puede hacer el propio anfitrión o un administrador
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:securedimport;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class PlaceImportSecurityTest {
+
+    private static final String BODY = """
+            {"places": [{
+                "title": "Cabaña importada",
+                "description": "Alojamiento migrado desde otra plataforma",
+                "address": {"address": "Vereda El Caimo", "city": "Armenia", "latitude": 4.53, "longitude": -75.68},
+                "nightlyPrice": 120000,
+                "maxGuests": 3,
+                "images": ["https://img.test/importada.jpg"]
+            }]}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    private User host;
+    private User otherHost;
+
+    @BeforeEach
+    void setUp() {
+        host = userRepository.save(user("importador@test.com", Role.HOST));
+        otherHost = userRepository.save(user("intruso@test.com", Role.HOST));
+    }
+
+    @AfterEach
+    void tearDown() {
+        placeRepository.deleteAll(placeRepository.findByHost(host));
+        userRepository.deleteAll(List.of(host, otherHost));
+    }
+
+    @Test
+    void importPlaces_SinAutenticar_DebeRechazarse() throws Exception {
+        mockMvc.perform(importRequest(host.getId()))
+                .andExpect(status().isForbidden());
+
+        assertEquals(0, placeRepository.countByHost(host));
+    }
+
+    @Test
+    void importPlaces_OtroAnfitrion_DebeRechazarse() throws Exception {
+        mockMvc.perform(importRequest(host.getId()).with(authentication(as(otherHost))))
+                .andExpect(status().isForbidden());
+
+        assertEquals(0, placeRepository.countByHost(host));
+    }
+
+    @Test
+    void importPlaces_PropioAnfitrion_DebeImportar() throws Exception {
+        mockMvc.perform(importRequest(host.getId()).with(authentication(as(host))))
+                .andExpect(status().isCreated());
+
+        assertEquals(1, placeRepository.countByHost(host));
+    }
+
+    private MockHttpServletRequestBuilder importRequest(Long hostId) {
+        return post("/api/places/host/" + hostId + "/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BODY);
+    }
+
+    private static UsernamePasswordAuthenticationToken as(User user) {
+        AuthenticatedUser principal = AuthenticatedUser.from(user);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private static User user(String email, Role role) {
+        User user = new User();
+        user.setName(email);
+        user.setEmail(email);
+        user.setPassword("secreta");
+        user.setRole(role);
+        user.setIsHost(role == Role.HOST);
+        return user;
+    }
+}
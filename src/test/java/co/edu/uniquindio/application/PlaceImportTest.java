@@ -0,0 +1,126 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.cache.PlaceResponseCache;
+import co.edu.uniquindio.application.index.AvailabilityIndex;
+import co.edu.uniquindio.application.index.PlaceGeoIndex;
+import co.edu.uniquindio.application.index.PlaceTextIndex;
+import co.edu.uniquindio.application.model.*;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.PlaceService;
+import co.edu.uniquindio.application.services.impl.PlaceServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:imports;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PlaceServiceImpl.class, AvailabilityIndex.class, PlaceGeoIndex.class, PlaceTextIndex.class,
+        PlaceResponseCache.class, SimpleMeterRegistry.class})
+class PlaceImportTest {
+
+    private static final int PLACES = 120;
+
+    @Autowired
+    private PlaceService placeService;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User host;
+
+    @BeforeEach
+    void setUp() {
+        host = new User();
+        host.setName("Anfitrión migrado");
+        host.setEmail("migracion@test.com");
+        host.setPassword("secreta");
+        host.setRole(Role.HOST);
+        host = userRepository.saveAndFlush(host);
+    }
+
+    @Test
+    void importPlaces_LoteGrande_DebeInsertarEnLotesJdbc() {
+        // Given
+        List<Place> places = new ArrayList<>();
+        for (int i = 0; i < PLACES; i++) {
+            places.add(place("Apartamento importado " + i));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<Place> imported = placeService.importPlaces(host, places);
+
+        // Then: 120 alojamientos con imágenes y servicios (360 filas) en pocas sentencias preparadas
+        assertEquals(PLACES, imported.size());
+        assertTrue(imported.stream().allMatch(place -> place.getId() != null));
+        assertEquals(PLACES, placeRepository.countByHost(host));
+        assertEquals(PLACES, statistics.getEntityInsertCount());
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements < 40, () -> "La importación preparó " + statements + " sentencias");
+    }
+
+    @Test
+    void importPlaces_AlojamientoInvalido_NoDebeGuardarNinguno() {
+        // Given
+        Place invalid = place("Sin precio");
+        invalid.setNightlyPrice(0.0);
+        List<Place> places = List.of(place("Casa válida"), invalid);
+
+        // When
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> placeService.importPlaces(host, places));
+
+        // Then
+        assertEquals("Alojamiento 2: El precio por noche debe ser mayor a 0", ex.getMessage());
+        assertEquals(0, placeRepository.countByHost(host));
+    }
+
+    private Place place(String title) {
+        Location location = new Location();
+        location.setLatitude(4.53);
+        location.setLongitude(-75.68);
+
+        Address address = new Address();
+        address.setAddress("Vereda El Caimo");
+        address.setCity("Armenia");
+        address.setLocation(location);
+
+        Place place = new Place();
+        place.setTitle(title);
+        place.setDescription("Alojamiento migrado desde otra plataforma");
+        place.setAddress(address);
+        place.setNightlyPrice(120000.0);
+        place.setMaxGuests(3);
+        place.setImages(new ArrayList<>(List.of("https://img.test/" + title.hashCode() + ".jpg")));
+        place.setServices(new ArrayList<>(List.of(Service.WIFI, Service.PARKING)));
+        return place;
+    }
+}
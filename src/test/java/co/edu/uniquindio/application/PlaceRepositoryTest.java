@@ -0,0 +1,137 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.dto.PlaceETag;
+import co.edu.uniquindio.application.model.*;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:places;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PlaceRepositoryTest {
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User host;
+
+    @BeforeEach
+    void setUp() {
+        host = new User();
+        host.setName("Anfitrión");
+        host.setEmail("host@test.com");
+        host.setPassword("secreta");
+        host.setRole(Role.HOST);
+        host = userRepository.save(host);
+    }
+
+    @Test
+    void findByServicesMask_TodosYAlgunoDe_DebeFiltrarPorBits() {
+        // Given
+        Place wifiPool = placeRepository.save(place("Wifi y piscina", Service.WIFI, Service.POOL));
+        Place wifiParking = placeRepository.save(place("Wifi y parqueadero", Service.WIFI, Service.PARKING));
+        Place none = placeRepository.save(place("Sin servicios"));
+
+        long wifi = Service.toMask(List.of(Service.WIFI));
+        long poolOrParking = Service.toMask(List.of(Service.POOL, Service.PARKING));
+
+        // When / Then
+        assertEquals(List.of(wifiPool.getId(), wifiParking.getId()),
+                ids(placeRepository.findByServicesMask(wifi, 0L, Status.ACTIVE)));
+        assertEquals(List.of(wifiPool.getId()),
+                ids(placeRepository.findByServicesMask(Service.toMask(List.of(Service.WIFI, Service.POOL)), 0L, Status.ACTIVE)));
+        assertEquals(List.of(wifiPool.getId(), wifiParking.getId()),
+                ids(placeRepository.findByServicesMask(0L, poolOrParking, Status.ACTIVE)));
+        assertEquals(3, placeRepository.findByServicesMask(0L, 0L, Status.ACTIVE).size());
+        assertEquals(0L, none.getServicesMask());
+    }
+
+    @Test
+    void setServices_ServiciosActualizados_DebeActualizarMascaraPersistida() {
+        // Given
+        Place place = placeRepository.save(place("Casa", Service.WIFI));
+        long breakfast = Service.toMask(List.of(Service.BREAKFAST));
+
+        // When
+        place.setServices(new ArrayList<>(List.of(Service.WIFI, Service.BREAKFAST)));
+        placeRepository.saveAndFlush(place);
+
+        // Then
+        assertEquals(Service.toMask(List.of(Service.WIFI, Service.BREAKFAST)), place.getServicesMask());
+        assertEquals(List.of(place.getId()), ids(placeRepository.findByServicesMask(breakfast, 0L, Status.ACTIVE)));
+    }
+
+    @Test
+    void findVersionById_CambiosEnAlojamientoReseñasYAnfitrion_DebenCambiarElETag() {
+        // Given
+        Long id = placeRepository.saveAndFlush(place("Casa", Service.WIFI)).getId();
+        entityManager.clear();
+        String initial = eTag(id);
+        assertEquals(PlaceETag.of(placeRepository.findById(id).orElseThrow()), initial);
+
+        // When: reseña nueva (UPDATE atómico de agregados y revisión)
+        placeRepository.applyRatingDelta(id, 4, 1);
+        entityManager.clear();
+        String afterReview = eTag(id);
+
+        // When: edición del alojamiento
+        Place place = placeRepository.findById(id).orElseThrow();
+        place.setTitle("Casa renovada");
+        placeRepository.saveAndFlush(place);
+        entityManager.clear();
+        String afterEdit = eTag(id);
+
+        // When: cambio en los datos del anfitrión
+        User reloadedHost = userRepository.findById(host.getId()).orElseThrow();
+        reloadedHost.setName("Anfitriona");
+        userRepository.saveAndFlush(reloadedHost);
+        entityManager.clear();
+        String afterHostEdit = eTag(id);
+
+        // Then
+        assertEquals(1L, placeRepository.findVersionById(id).orElseThrow().getReviewRevision());
+        assertEquals(4, List.of(initial, afterReview, afterEdit, afterHostEdit).stream().distinct().count());
+        assertEquals(PlaceETag.of(placeRepository.findById(id).orElseThrow()), afterHostEdit);
+    }
+
+    private String eTag(Long placeId) {
+        return PlaceETag.of(placeRepository.findVersionById(placeId).orElseThrow());
+    }
+
+    private Place place(String title, Service... services) {
+        Place place = new Place();
+        place.setTitle(title);
+        place.setNightlyPrice(100.0);
+        place.setMaxGuests(2);
+        place.setHost(host);
+        place.setServices(new ArrayList<>(List.of(services)));
+        return place;
+    }
+
+    private List<Long> ids(List<Place> places) {
+        return places.stream().map(Place::getId).sorted().toList();
+    }
+}
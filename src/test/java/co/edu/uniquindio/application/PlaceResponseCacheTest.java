@@ -0,0 +1,100 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.cache.PlaceResponseCache;
+import co.edu.uniquindio.application.dto.PlaceResponse;
+import co.edu.uniquindio.application.dto.UserResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceResponseCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PlaceResponseCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PlaceResponseCache(Duration.ofMinutes(5), 100, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_LecturasRepetidas_DebeCargarUnaVezYRegistrarAciertos() {
+        // When
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "placeResponses").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void evict_AlojamientoModificado_DebeRecargarSoloEseAlojamiento() {
+        // Given
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        // When
+        cache.evict(1L);
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        // Then
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void evictByHost_DatosDelAnfitrionModificados_DebeInvalidarSusAlojamientos() {
+        // Given
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        // When: el alojamiento 1 es del anfitrión 10, el 2 del anfitrión 20
+        cache.evictByHost(10L);
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        // Then
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void getIfPresent_AlojamientoNoCargado_NoDebeInvocarCargador() {
+        // Given
+        cache.get(1L, this::load);
+
+        // When / Then
+        assertEquals("\"p1-0.0.0\"", cache.getIfPresent(1L).eTag());
+        assertNull(cache.getIfPresent(2L));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_AlojamientoInexistente_NoDebeGuardarNull() {
+        // When
+        assertNull(cache.get(99L, id -> null));
+
+        // Then
+        assertNotNull(cache.get(99L, this::load));
+    }
+
+    private PlaceResponseCache.Entry load(Long id) {
+        loads.incrementAndGet();
+        UserResponse host = new UserResponse();
+        host.setId(id * 10);
+        PlaceResponse response = new PlaceResponse();
+        response.setId(id);
+        response.setHost(host);
+        return new PlaceResponseCache.Entry(response, "\"p" + id + "-0.0.0\"");
+    }
+}
@@ -0,0 +1,85 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.index.PlaceTextIndex;
+import co.edu.uniquindio.application.model.Address;
+import co.edu.uniquindio.application.model.Place;
+import co.edu.uniquindio.application.model.Status;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceTextIndexTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @InjectMocks
+    private PlaceTextIndex placeTextIndex;
+
+    @Test
+    void search_TildesYPlurales_DebeEncontrarCoincidencias() {
+        // Given
+        placeTextIndex.onPlaceChanged(place(1L, "Cabaña en el bosque", "Tiene piscinas y jacuzzi", "Salento"));
+
+        // When / Then
+        assertEquals(List.of(1L), placeTextIndex.search("cabana piscina", 10));
+        assertEquals(List.of(1L), placeTextIndex.search("CABAÑAS", 10));
+        assertTrue(placeTextIndex.search("cabaña lago", 10).isEmpty());
+    }
+
+    @Test
+    void search_TerminoEnTituloYDescripcion_DebeOrdenarPorRelevancia() {
+        // Given
+        placeTextIndex.onPlaceChanged(place(1L, "Apartamento céntrico", "Cerca del lago", "Armenia"));
+        placeTextIndex.onPlaceChanged(place(2L, "Casa del lago", "Vista al lago y muelle privado", "Guatapé"));
+        placeTextIndex.onPlaceChanged(place(3L, "Finca cafetera", "Sin lagos cerca", "Armenia"));
+
+        // When
+        List<Long> results = placeTextIndex.search("lago", 10);
+
+        // Then
+        assertEquals(2L, results.get(0));
+        assertEquals(3, results.size());
+        assertEquals(List.of(2L), placeTextIndex.search("lago", 1));
+    }
+
+    @Test
+    void onPlaceChanged_TituloActualizadoODesactivado_DebeReindexar() {
+        // Given
+        Place place = place(1L, "Casa con piscina", "Amplia", "Pereira");
+        placeTextIndex.onPlaceChanged(place);
+
+        // When
+        place.setTitle("Casa con chimenea");
+        placeTextIndex.onPlaceChanged(place);
+
+        // Then
+        assertTrue(placeTextIndex.search("piscina", 10).isEmpty());
+        assertEquals(List.of(1L), placeTextIndex.search("chimenea", 10));
+
+        place.setStatus(Status.INACTIVE);
+        placeTextIndex.onPlaceChanged(place);
+        assertTrue(placeTextIndex.search("chimenea", 10).isEmpty());
+    }
+
+    private Place place(Long id, String title, String description, String city) {
+        Address address = new Address();
+        address.setCity(city);
+
+        Place place = new Place();
+        place.setId(id);
+        place.setTitle(title);
+        place.setDescription(description);
+        place.setAddress(address);
+        place.setStatus(Status.ACTIVE);
+        return place;
+    }
+}
@@ -0,0 +1,192 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.cache.PlaceResponseCache;
+import co.edu.uniquindio.application.datasource.ReadYourWritesWindow;
+import co.edu.uniquindio.application.jobs.RatingAggregateRepairJob;
+import co.edu.uniquindio.application.model.*;
+import co.edu.uniquindio.application.repositories.BookingRepository;
+import co.edu.uniquindio.application.repositories.PlaceRepository;
+import co.edu.uniquindio.application.repositories.ReviewRepository;
+import co.edu.uniquindio.application.repositories.UserRepository;
+import co.edu.uniquindio.application.services.ReviewService;
+import co.edu.uniquindio.application.services.impl.ReviewServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static co.edu.uniquindio.application.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Agregados incrementales ratingSum/ratingCount que mantiene ReviewServiceImpl y su reparación nocturna
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ratings;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReviewServiceImpl.class, PlaceResponseCache.class, ReadYourWritesWindow.class,
+        RatingAggregateRepairJob.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RatingAggregateTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private RatingAggregateRepairJob ratingAggregateRepairJob;
+
+    @Autowired
+    private PlaceResponseCache placeResponseCache;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Place place;
+    private User guest;
+    private User otherGuest;
+
+    @BeforeEach
+    void setUp() {
+        User host = userRepository.save(user("host@test.com", Role.HOST));
+        guest = userRepository.save(user("guest@test.com", Role.GUEST));
+        otherGuest = userRepository.save(user("otro@test.com", Role.GUEST));
+        place = placeRepository.save(place(host));
+        completedStay(guest);
+        completedStay(otherGuest);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewRepository.deleteAll();
+        bookingRepository.deleteAll();
+        placeRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void createReview_DebeSumarCalificacionYConteo() {
+        // When
+        reviewService.createReview(review(guest, 4));
+        reviewService.createReview(review(otherGuest, 5));
+
+        // Then
+        Place reloaded = placeRepository.findById(place.getId()).orElseThrow();
+        assertEquals(9L, reloaded.getRatingSum());
+        assertEquals(2L, reloaded.getRatingCount());
+        assertEquals(4.5, reloaded.getAverageRating());
+    }
+
+    @Test
+    void updateReview_CambioDeCalificacion_DebeAplicarSoloLaDiferencia() {
+        // Given
+        Review review = reviewService.createReview(review(guest, 2));
+        reviewService.createReview(review(otherGuest, 4));
+
+        // When
+        Review details = new Review();
+        details.setRating(5);
+        reviewService.updateReview(review.getId(), details);
+
+        Review commentOnly = new Review();
+        commentOnly.setComment("Actualizo solo el comentario");
+        reviewService.updateReview(review.getId(), commentOnly);
+
+        // Then
+        Place reloaded = placeRepository.findById(place.getId()).orElseThrow();
+        assertEquals(9L, reloaded.getRatingSum());
+        assertEquals(2L, reloaded.getRatingCount());
+    }
+
+    @Test
+    void deleteReview_DebeRestarCalificacionYConteo() {
+        // Given
+        Review review = reviewService.createReview(review(guest, 3));
+        reviewService.createReview(review(otherGuest, 5));
+
+        // When
+        reviewService.deleteReview(review.getId());
+
+        // Then
+        Place reloaded = placeRepository.findById(place.getId()).orElseThrow();
+        assertEquals(5L, reloaded.getRatingSum());
+        assertEquals(1L, reloaded.getRatingCount());
+        assertEquals(5.0, reloaded.getAverageRating());
+    }
+
+    @Test
+    void createReview_DebeDesalojarLaRespuestaEnCache() {
+        // Given
+        placeResponseCache.get(place.getId(), id -> new PlaceResponseCache.Entry(null, "\"p1\""));
+
+        // When
+        reviewService.createReview(review(guest, 4));
+
+        // Then
+        assertNull(placeResponseCache.getIfPresent(place.getId()));
+    }
+
+    @Test
+    void repair_AgregadosDesviados_DebeRecalcularlosDesdeLasReseñas() {
+        // Given: agregados alterados fuera del servicio
+        reviewService.createReview(review(guest, 4));
+        reviewService.createReview(review(otherGuest, 2));
+        jdbcTemplate.update("UPDATE places SET rating_sum = 99, rating_count = 7 WHERE id = ?", place.getId());
+        placeResponseCache.get(place.getId(), id -> new PlaceResponseCache.Entry(null, "\"p1\""));
+
+        // When
+        int updated = ratingAggregateRepairJob.repair();
+
+        // Then
+        Place reloaded = placeRepository.findById(place.getId()).orElseThrow();
+        assertEquals(1, updated);
+        assertEquals(6L, reloaded.getRatingSum());
+        assertEquals(2L, reloaded.getRatingCount());
+        assertNull(placeResponseCache.getIfPresent(place.getId()));
+    }
+
+    private void completedStay(User stayGuest) {
+        Booking booking = new Booking();
+        booking.setPlace(place);
+        booking.setGuest(stayGuest);
+        booking.setCheckIn(LocalDateTime.now().minusDays(5));
+        booking.setCheckOut(LocalDateTime.now().minusDays(3));
+        booking.setGuestCount(1);
+        booking.setPrice(200.0);
+        booking.setStatus(BookingStatus.COMPLETED);
+        bookingRepository.save(booking);
+    }
+
+    private Review review(User author, int rating) {
+        Review review = new Review();
+        review.setUser(author);
+        review.setPlace(place);
+        review.setRating(rating);
+        review.setComment("Buena estadía");
+        return review;
+    }
+}
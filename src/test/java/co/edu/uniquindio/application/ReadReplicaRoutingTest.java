@@ -0,0 +1,162 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.datasource.ReadReplicaRoutingDataSource;
+import co.edu.uniquindio.application.datasource.ReadYourWritesWindow;
+import co.edu.uniquindio.application.mail.EmailDispatcher;
+import co.edu.uniquindio.application.mail.EmailTransport;
+import co.edu.uniquindio.application.model.OutboundEmail;
+import co.edu.uniquindio.application.model.OutboundEmailStatus;
+import co.edu.uniquindio.application.model.Role;
+import co.edu.uniquindio.application.model.Status;
+import co.edu.uniquindio.application.repositories.OutboundEmailRepository;
+import co.edu.uniquindio.application.security.AuthenticatedUser;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// Dos instancias H2 independientes hacen de primario y réplica; cada una sabe su propio nombre
+class ReadReplicaRoutingTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReadYourWritesWindow readYourWritesWindow;
+    private ReadReplicaRoutingDataSource routingDataSource;
+    private DataSourceTransactionManager transactionManager;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        readYourWritesWindow = new ReadYourWritesWindow(Duration.ofMinutes(1), 100);
+
+        routingDataSource = new ReadReplicaRoutingDataSource(primary, replica, readYourWritesWindow);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void transaccion_SoloLectura_DebeIrALaReplica() {
+        // When
+        String server = readOnlyTransaction.execute(status -> currentServer());
+
+        // Then
+        assertEquals("replica", server);
+    }
+
+    @Test
+    void transaccion_Escritura_DebeIrAlPrimario() {
+        // When
+        String server = writeTransaction.execute(status -> currentServer());
+
+        // Then
+        assertEquals("primary", server);
+        assertEquals("primary", currentServer());
+    }
+
+    @Test
+    void transaccion_SoloLecturaTrasEscrituraPropia_DebeLeerDelPrimario() {
+        // Given: el usuario 1 acaba de confirmar una reserva
+        authenticateAs(1L);
+        writeTransaction.executeWithoutResult(status -> readYourWritesWindow.recordWrite(1L));
+
+        // When
+        String ownRead = readOnlyTransaction.execute(status -> currentServer());
+        authenticateAs(2L);
+        String otherRead = readOnlyTransaction.execute(status -> currentServer());
+
+        // Then: solo el autor del cambio lee del primario
+        assertEquals("primary", ownRead);
+        assertEquals("replica", otherRead);
+    }
+
+    @Test
+    void recordWrite_TransaccionRevertida_NoDebeAbrirLaVentana() {
+        // When
+        writeTransaction.executeWithoutResult(status -> {
+            readYourWritesWindow.recordWrite(1L);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertFalse(readYourWritesWindow.isActive(1L));
+    }
+
+    @Test
+    void deliver_HiloAsincronoSinUsuario_DebeLeerElCorreoDelPrimario() throws Exception {
+        // Given: el reclamo y el findById se unen a la transacción que abra el dispatcher; se anota la ruta
+        OutboundEmailRepository repository = mock(OutboundEmailRepository.class);
+        List<ReadReplicaRoutingDataSource.Route> routes = new ArrayList<>();
+        when(repository.claim(eq(7L), eq(OutboundEmailStatus.PENDING), any(), any())).thenReturn(1);
+        when(repository.findById(7L)).thenAnswer(invocation -> {
+            routes.add(routingDataSource.currentRoute());
+            return Optional.of(new OutboundEmail());
+        });
+        when(repository.completeAttempt(eq(7L), any(), any(), any(), anyInt(), any(), any(), any())).thenReturn(1);
+        EmailTransport transport = mock(EmailTransport.class);
+        EmailDispatcher dispatcher = new EmailDispatcher(repository, transport, new SimpleMeterRegistry(),
+                transactionManager, 5, Duration.ofSeconds(30), Duration.ofMinutes(30), Duration.ofMinutes(1));
+
+        // When: sin usuario autenticado, como en el hilo de @Async
+        boolean sent = dispatcher.deliver(7L);
+
+        // Then
+        assertTrue(sent);
+        assertEquals(List.of(ReadReplicaRoutingDataSource.Route.PRIMARY), routes);
+        verify(transport).send(any(OutboundEmail.class));
+    }
+
+    private String currentServer() {
+        return jdbcTemplate.queryForObject("SELECT name FROM server_name", String.class);
+    }
+
+    private void authenticateAs(Long userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "user" + userId + "@test.com", Role.GUEST,
+                Status.ACTIVE, false, List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static HikariDataSource h2(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS server_name (name VARCHAR(20))");
+        jdbc.update("DELETE FROM server_name");
+        jdbc.update("INSERT INTO server_name (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,40 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.dto.ApiResponse;
+import co.edu.uniquindio.application.exceptions.RateLimitExceededException;
+import co.edu.uniquindio.application.exceptions.RestExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestExceptionHandlerTest {
+
+    private final RestExceptionHandler handler = new RestExceptionHandler();
+
+    @Test
+    void limiteExcedido_DebeResponder429ConRetryAfterRestante() {
+        // When
+        ResponseEntity<ApiResponse<Object>> response = handler.handleRateLimitExceeded(
+                new RateLimitExceededException("Demasiadas solicitudes", Duration.ofSeconds(90).plusMillis(200)));
+
+        // Then: segundos redondeados hacia arriba
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("91", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("Demasiadas solicitudes", response.getBody().getMessage());
+    }
+
+    @Test
+    void limiteExcedido_VentanaPorTerminar_DebeSugerirAlMenosUnSegundo() {
+        // When
+        ResponseEntity<ApiResponse<Object>> response = handler.handleRateLimitExceeded(
+                new RateLimitExceededException("Demasiadas solicitudes", Duration.ZERO));
+
+        // Then
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+}
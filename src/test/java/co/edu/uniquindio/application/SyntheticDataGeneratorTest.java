@@ -0,0 +1,136 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.config.SyntheticDataGenerator;
+import co.edu.uniquindio.application.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticDataGeneratorTest {
+
+    private static final SyntheticDataGenerator.Settings SETTINGS = new SyntheticDataGenerator.Settings(
+            7L, 400, 0.05, 60, 365, 90, 0.55, LocalDate.of(2025, 6, 1));
+
+    private static final Set<BookingStatus> ACTIVE =
+            Set.of(BookingStatus.PENDING, BookingStatus.CONFIRMED, BookingStatus.COMPLETED);
+
+    @Test
+    void generate_MismaSemillaYFecha_DebeProducirLosMismosDatos() {
+        // Given / When
+        MemorySink first = generate(SETTINGS);
+        MemorySink second = generate(SETTINGS);
+
+        // Then
+        assertEquals(400, first.users.size());
+        assertEquals(60, first.places.size());
+        assertEquals(fingerprint(first), fingerprint(second));
+    }
+
+    @Test
+    void generate_SemillaDistinta_DebeProducirOtrosDatos() {
+        // Given
+        SyntheticDataGenerator.Settings other = new SyntheticDataGenerator.Settings(
+                8L, 400, 0.05, 60, 365, 90, 0.55, LocalDate.of(2025, 6, 1));
+
+        // When / Then
+        assertNotEquals(fingerprint(generate(SETTINGS)), fingerprint(generate(other)));
+    }
+
+    @Test
+    void generate_ReservasActivas_NoDebenSolaparseEnElMismoAlojamiento() {
+        // Given / When
+        MemorySink sink = generate(SETTINGS);
+
+        // Then
+        assertFalse(sink.bookings.isEmpty());
+        for (int i = 0; i < sink.places.size(); i++) {
+            Place place = sink.places.get(i);
+            List<Booking> active = sink.bookingsByPlace.get(i).stream()
+                    .filter(booking -> ACTIVE.contains(booking.getStatus()))
+                    .sorted(Comparator.comparing(Booking::getCheckIn))
+                    .toList();
+            for (int j = 1; j < active.size(); j++) {
+                assertFalse(active.get(j).getCheckIn().isBefore(active.get(j - 1).getCheckOut()),
+                        "Reservas solapadas en " + place.getTitle());
+            }
+            sink.bookingsByPlace.get(i).forEach(booking -> {
+                assertSame(place, booking.getPlace());
+                assertTrue(booking.getCheckOut().isAfter(booking.getCheckIn()));
+                assertTrue(booking.getGuestCount() <= place.getMaxGuests());
+            });
+        }
+    }
+
+    @Test
+    void generate_Reseñas_DebenCoincidirConElAcumuladoDelAlojamiento() {
+        // Given / When
+        MemorySink sink = generate(SETTINGS);
+
+        // Then
+        assertFalse(sink.reviews.isEmpty());
+        for (int i = 0; i < sink.places.size(); i++) {
+            Place place = sink.places.get(i);
+            List<Review> reviews = sink.reviewsByPlace.get(i);
+            assertEquals(reviews.size(), place.getRatingCount().longValue());
+            assertEquals(reviews.stream().mapToLong(Review::getRating).sum(), place.getRatingSum().longValue());
+            reviews.forEach(review -> assertTrue(review.getRating() >= 1 && review.getRating() <= 5));
+        }
+    }
+
+    private static MemorySink generate(SyntheticDataGenerator.Settings settings) {
+        MemorySink sink = new MemorySink();
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(settings);
+        generator.generateUsers(sink);
+        generator.generatePlaces(sink);
+        return sink;
+    }
+
+    private static List<String> fingerprint(MemorySink sink) {
+        List<String> rows = new ArrayList<>();
+        sink.users.forEach(user -> rows.add(user.getEmail() + "|" + user.getRole()));
+        sink.places.forEach(place -> rows.add(place.getTitle() + "|" + place.getNightlyPrice() + "|"
+                + place.getAddress().getLocation().getLatitude() + "|" + place.getHost().getId()));
+        sink.bookings.forEach(booking -> rows.add(booking.getCheckIn() + "|" + booking.getStatus() + "|"
+                + booking.getGuest().getId()));
+        sink.reviews.forEach(review -> rows.add(review.getRating() + "|" + review.getComment()));
+        return rows;
+    }
+
+    // Guarda todo en memoria y asigna IDs consecutivos a los usuarios
+    private static class MemorySink implements SyntheticDataGenerator.Sink {
+
+        private final List<User> users = new ArrayList<>();
+        private final List<Place> places = new ArrayList<>();
+        private final List<Booking> bookings = new ArrayList<>();
+        private final List<Review> reviews = new ArrayList<>();
+        private final List<List<Booking>> bookingsByPlace = new ArrayList<>();
+        private final List<List<Review>> reviewsByPlace = new ArrayList<>();
+
+        @Override
+        public Long saveUser(User user) {
+            users.add(user);
+            user.setId((long) users.size());
+            return user.getId();
+        }
+
+        @Override
+        public User userReference(Long id) {
+            return users.get((int) (id - 1));
+        }
+
+        @Override
+        public void savePlace(Place place, List<Booking> placeBookings, List<Review> placeReviews) {
+            places.add(place);
+            bookings.addAll(placeBookings);
+            reviews.addAll(placeReviews);
+            bookingsByPlace.add(List.copyOf(placeBookings));
+            reviewsByPlace.add(List.copyOf(placeReviews));
+        }
+    }
+}
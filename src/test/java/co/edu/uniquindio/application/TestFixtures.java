@@ -0,0 +1,30 @@
+package co.edu.uniquindio.application;
+
+import co.edu.uniquindio.application.model.Place;
+import co.edu.uniquindio.application.model.Role;
+import co.edu.uniquindio.application.model.User;
+
+// Entidades mínimas válidas para las pruebas de persistencia; cada prueba ajusta lo que necesite
+final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    static User user(String email, Role role) {
+        User user = new User();
+        user.setName(email);
+        user.setEmail(email);
+        user.setPassword("secreta");
+        user.setRole(role);
+        return user;
+    }
+
+    static Place place(User host) {
+        Place place = new Place();
+        place.setTitle("Casa");
+        place.setNightlyPrice(100.0);
+        place.setMaxGuests(2);
+        place.setHost(host);
+        return place;
+    }
+}